@@ -0,0 +1,80 @@
+package org.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.sportradar.ConcurrentScoreBoard;
+import org.sportradar.MatchFixture;
+import org.sportradar.MatchSummary;
+import org.sportradar.ScoreBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a whole match day onto an empty board, one newMatch at a time or in one bulk load,
+ * and building the first summary of a board that size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class BulkLoadBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int matches;
+
+    private List<MatchFixture> fixtures;
+    private ScoreBoard loadedBoard;
+    private ConcurrentScoreBoard loadedConcurrentBoard;
+
+    @Setup(Level.Trial)
+    public void createFixtures() {
+        fixtures = new ArrayList<>(matches);
+        loadedConcurrentBoard = new ConcurrentScoreBoard();
+        for (int i = 0; i < matches; i++) {
+            fixtures.add(new MatchFixture("Home " + i, "Away " + i));
+            loadedConcurrentBoard.newMatch("Home " + i, "Away " + i);
+        }
+        loadedBoard = new ScoreBoard();
+        loadedBoard.bulkLoad(fixtures);
+    }
+
+    @Benchmark
+    public ScoreBoard newMatchForEveryFixture() {
+        var scoreBoard = new ScoreBoard();
+        for (var fixture : fixtures) {
+            scoreBoard.newMatch(fixture.homeTeam(), fixture.awayTeam());
+        }
+
+        return scoreBoard;
+    }
+
+    @Benchmark
+    public ScoreBoard bulkLoad() {
+        var scoreBoard = new ScoreBoard();
+        scoreBoard.bulkLoad(fixtures);
+
+        return scoreBoard;
+    }
+
+    @Benchmark
+    public List<MatchSummary> buildSummary() {
+        // A throwaway update forces the next summary to be built again
+        var matchId = loadedBoard.newMatch("Extra home team", "Extra away team");
+        var summary = loadedBoard.getSummary();
+        loadedBoard.finishMatch(matchId);
+
+        return summary;
+    }
+
+    @Benchmark
+    public List<MatchSummary> buildConcurrentSummary() {
+        var matchId = loadedConcurrentBoard.newMatch("Extra home team", "Extra away team");
+        var summary = loadedConcurrentBoard.getSummary();
+        loadedConcurrentBoard.finishMatch(matchId);
+
+        return summary;
+    }
+}
@@ -0,0 +1,120 @@
+package org.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.sportradar.ConcurrentScoreBoard;
+import org.sportradar.MatchSummary;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of ConcurrentScoreBoard with readers and writers running at the same time, in two read/write mixes.
+ * Every writer thread owns its own slice of the matches, so its updates are always valid.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ConcurrentScoreBoardBenchmark {
+
+    // At least the number of writer threads in any group
+    private static final int WRITER_SLICES = 4;
+
+    @State(Scope.Group)
+    public static class Board {
+
+        @Param({"10", "1000", "100000", "1000000"})
+        public int liveMatches;
+
+        ConcurrentScoreBoard scoreBoard;
+        int[] matchIds;
+        String[] teamNames;
+        final AtomicInteger writers = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void startMatches() {
+            scoreBoard = new ConcurrentScoreBoard();
+            matchIds = new int[liveMatches];
+            teamNames = new String[liveMatches];
+            for (int i = 0; i < liveMatches; i++) {
+                teamNames[i] = "Home " + i;
+                matchIds[i] = scoreBoard.newMatch(teamNames[i], "Away " + i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        int[] matchIds;
+        int[] homeScores;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void takeSlice(Board board) {
+            int slice = board.writers.getAndIncrement() % WRITER_SLICES;
+            matchIds = IntStream.range(0, board.liveMatches)
+                    .filter(i -> i % WRITER_SLICES == slice)
+                    .map(i -> board.matchIds[i])
+                    .toArray();
+            homeScores = new int[matchIds.length];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Reader {
+
+        int cursor;
+    }
+
+    private static void update(Board board, Writer writer) {
+        if (writer.matchIds.length == 0) {
+            return;
+        }
+        writer.cursor = writer.cursor + 1 == writer.matchIds.length ? 0 : writer.cursor + 1;
+        board.scoreBoard.updateMatch(writer.matchIds[writer.cursor], ++writer.homeScores[writer.cursor], 0);
+    }
+
+    private static int goals(Board board, Reader reader) {
+        reader.cursor = reader.cursor + 1 == board.liveMatches ? 0 : reader.cursor + 1;
+        return board.scoreBoard.getCurrentGoalsForTeam(board.teamNames[reader.cursor]);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyUpdateMatch(Board board, Writer writer) {
+        update(board, writer);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(2)
+    public List<MatchSummary> readHeavyGetSummary(Board board) {
+        return board.scoreBoard.getSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(2)
+    public int readHeavyGetCurrentGoalsForTeam(Board board, Reader reader) {
+        return goals(board, reader);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(4)
+    public void writeHeavyUpdateMatch(Board board, Writer writer) {
+        update(board, writer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<MatchSummary> writeHeavyGetSummary(Board board) {
+        return board.scoreBoard.getSummary();
+    }
+}
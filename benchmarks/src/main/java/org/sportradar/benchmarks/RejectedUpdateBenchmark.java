@@ -0,0 +1,44 @@
+package org.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.sportradar.ScoreBoard;
+import org.sportradar.ScoreBoardResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a redundant score update, as duplicate feed deliveries cause, rejected by exception or by result code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectedUpdateBenchmark {
+
+    private ScoreBoard scoreBoard;
+    private int matchId;
+
+    @Setup(Level.Trial)
+    public void startMatch() {
+        scoreBoard = new ScoreBoard();
+        matchId = scoreBoard.newMatch("Home", "Away");
+        scoreBoard.updateMatch(matchId, 1, 0);
+    }
+
+    @Benchmark
+    public String updateMatch() {
+        try {
+            scoreBoard.updateMatch(matchId, 1, 0);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ScoreBoardResult tryUpdateMatch() {
+        return scoreBoard.tryUpdateMatch(matchId, 1, 0);
+    }
+}
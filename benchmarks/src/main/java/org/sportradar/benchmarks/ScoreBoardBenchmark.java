@@ -0,0 +1,101 @@
+package org.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.sportradar.ConcurrentScoreBoard;
+import org.sportradar.LiveScoreBoard;
+import org.sportradar.MatchSummary;
+import org.sportradar.OffHeapScoreBoard;
+import org.sportradar.ScoreBoard;
+import org.sportradar.ShardedScoreBoard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of every score board operation, on boards with a given number of live matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class ScoreBoardBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int liveMatches;
+
+    @Param({"ScoreBoard", "ConcurrentScoreBoard", "ShardedScoreBoard", "OffHeapScoreBoard"})
+    public String implementation;
+
+    private LiveScoreBoard scoreBoard;
+    private int[] matchIds;
+    private int[] homeScores;
+    private String[] teamNames;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void startMatches() {
+        scoreBoard = switch (implementation) {
+            case "ScoreBoard" -> new ScoreBoard();
+            case "ConcurrentScoreBoard" -> new ConcurrentScoreBoard();
+            case "ShardedScoreBoard" -> new ShardedScoreBoard();
+            case "OffHeapScoreBoard" -> new OffHeapScoreBoard();
+            default -> throw new IllegalArgumentException(implementation);
+        };
+
+        matchIds = new int[liveMatches];
+        homeScores = new int[liveMatches];
+        teamNames = new String[liveMatches * 2];
+        for (int i = 0; i < liveMatches; i++) {
+            teamNames[2 * i] = "Home " + i;
+            teamNames[2 * i + 1] = "Away " + i;
+            matchIds[i] = scoreBoard.newMatch(teamNames[2 * i], teamNames[2 * i + 1]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopWriterThreads() {
+        if (scoreBoard instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private int nextMatch() {
+        cursor = cursor + 1 == liveMatches ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    @Benchmark
+    public void updateMatch() {
+        int match = nextMatch();
+        scoreBoard.updateMatch(matchIds[match], ++homeScores[match], 0);
+    }
+
+    @Benchmark
+    public int newMatchAndFinishMatch() {
+        int matchId = scoreBoard.newMatch("Extra home team", "Extra away team");
+        scoreBoard.finishMatch(matchId);
+        return matchId;
+    }
+
+    @Benchmark
+    public List<MatchSummary> getSummary() {
+        return scoreBoard.getSummary();
+    }
+
+    @Benchmark
+    public List<MatchSummary> updateMatchAndGetSummary() {
+        updateMatch();
+        return scoreBoard.getSummary();
+    }
+
+    @Benchmark
+    public int getCurrentGoalsForTeam() {
+        return scoreBoard.getCurrentGoalsForTeam(teamNames[nextMatch()]);
+    }
+}
@@ -0,0 +1,69 @@
+package org.sportradar.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.sportradar.ScoreBoard;
+import org.sportradar.ScoreBoardIngester;
+import org.sportradar.ScoreEventResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of score updates from many producer threads through the ring buffer of a ScoreBoardIngester.
+ * Every producer thread updates its own match, so its updates are always valid.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Threads(4)
+public class ScoreBoardIngesterBenchmark {
+
+    // At least the number of producer threads
+    private static final int PRODUCER_MATCHES = 64;
+
+    @State(Scope.Benchmark)
+    public static class Ingester {
+
+        @Param({"1024", "65536"})
+        public int capacity;
+
+        ScoreBoardIngester ingester;
+        int[] matchIds;
+        final AtomicInteger producers = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void startMatches() {
+            var scoreBoard = new ScoreBoard();
+            matchIds = new int[PRODUCER_MATCHES];
+            for (int i = 0; i < PRODUCER_MATCHES; i++) {
+                matchIds[i] = scoreBoard.newMatch("Home " + i, "Away " + i);
+            }
+            ingester = new ScoreBoardIngester(scoreBoard, capacity);
+        }
+
+        @TearDown(Level.Trial)
+        public void stopWriter() {
+            ingester.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+
+        int matchId;
+        int homeScore;
+
+        @Setup(Level.Trial)
+        public void takeMatch(Ingester ingester) {
+            matchId = ingester.matchIds[ingester.producers.getAndIncrement() % PRODUCER_MATCHES];
+        }
+    }
+
+    @Benchmark
+    public CompletableFuture<ScoreEventResult> updateMatch(Ingester ingester, Producer producer) {
+        return ingester.ingester.updateMatch(producer.matchId, ++producer.homeScore, 0);
+    }
+}
@@ -0,0 +1,379 @@
+package org.sportradar.benchmarks;
+
+import com.sun.management.ThreadMXBean;
+import org.sportradar.ConcurrentScoreBoard;
+import org.sportradar.LiveScoreBoard;
+import org.sportradar.MatchSummary;
+import org.sportradar.OffHeapScoreBoard;
+import org.sportradar.ScoreBoard;
+import org.sportradar.ShardedScoreBoard;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Soak test of a score board: drives it with a {@link SoakWorkload} from many threads at a steady rate, checks its
+ * invariants all along, and reports throughput, latency percentiles and allocation.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.sportradar.benchmarks.SoakTest \
+ *     --implementation ConcurrentScoreBoard --threads 4 --rate 100000 --seed 42 --match-days 10 --matches 1000
+ * </pre>
+ * Every match is driven by one thread, so its operations are sent in workload order however the threads
+ * interleave, and the board has to end every phase in the same state. All threads finish a phase before any
+ * starts the next one, like the whole match day kicking off and ending at once.
+ * <p>
+ * Latency is measured from the time an operation was due at the requested rate rather than from when it was sent,
+ * so a board that falls behind shows it in the percentiles instead of quietly slowing the test down.
+ * Boards that aren't thread-safe are driven through a lock.
+ * Exits with 1 when any invariant was broken.
+ */
+public final class SoakTest {
+
+    static final String UNKNOWN_OPTION = "Unknown option: ";
+
+    private static final int REPORTED_VIOLATIONS = 10;
+    private static final long MONITOR_INTERVAL_NANOS = 1_000_000;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final LiveScoreBoard scoreBoard;
+    private final SoakWorkload workload;
+    private final int threads;
+    private final long intervalNanos;
+    // Board ids by match key, only ever used by the thread of the match
+    private final int[] matchIds;
+    // What the board should hold after the phases so far, by match key
+    private final Map<Integer, MatchSummary> expectedMatches;
+    private final List<String> violations;
+    private final AtomicLong violationCount;
+    private final LongAdder allocatedBytes;
+    private final long[][][] latencies;
+    private volatile int completedPhases;
+    private volatile long phaseStart;
+    private volatile boolean finished;
+    private long busyNanos;
+    private long checkedSummaries;
+
+    private SoakTest(LiveScoreBoard scoreBoard, SoakWorkload workload, int threads, long rate) {
+        this.scoreBoard = scoreBoard;
+        this.workload = workload;
+        this.threads = threads;
+        intervalNanos = rate > 0 ? threads * 1_000_000_000L / rate : 0;
+        matchIds = new int[workload.matchCount()];
+        expectedMatches = new HashMap<>();
+        violations = new ArrayList<>();
+        violationCount = new AtomicLong();
+        allocatedBytes = new LongAdder();
+        latencies = new long[threads][SoakWorkload.Kind.values().length][];
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var options = parseOptions(args);
+        var implementation = options.getOrDefault("implementation", "ConcurrentScoreBoard");
+        var threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+        var rate = Long.parseLong(options.getOrDefault("rate", "0"));
+        var seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        var workload = options.containsKey("trace")
+                ? SoakWorkload.read(Path.of(options.get("trace")))
+                : SoakWorkload.generate(seed,
+                        Integer.parseInt(options.getOrDefault("match-days", "10")),
+                        Integer.parseInt(options.getOrDefault("matches", "1000")),
+                        Integer.parseInt(options.getOrDefault("goals", "3")));
+        if (options.containsKey("write-trace")) {
+            workload.write(Path.of(options.get("write-trace")));
+        }
+
+        var scoreBoard = switch (implementation) {
+            case "ScoreBoard" -> new Locked(new ScoreBoard());
+            case "ConcurrentScoreBoard" -> new ConcurrentScoreBoard();
+            case "ShardedScoreBoard" -> new ShardedScoreBoard();
+            case "OffHeapScoreBoard" -> new Locked(new OffHeapScoreBoard());
+            default -> throw new IllegalArgumentException(implementation);
+        };
+
+        System.out.printf("%s, %d threads, %s, %s: %,d operations on %,d matches%n", implementation, threads,
+                rate > 0 ? String.format("%,d ops/s", rate) : "unthrottled",
+                options.containsKey("trace") ? options.get("trace") : "seed " + seed,
+                workload.operationCount(), workload.matchCount());
+
+        var soakTest = new SoakTest(scoreBoard, workload, threads, rate);
+        try {
+            soakTest.run();
+        } finally {
+            if (scoreBoard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        soakTest.report();
+
+        System.exit(soakTest.violationCount.get() == 0 ? 0 : 1);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        var options = new HashMap<String, String>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException(UNKNOWN_OPTION + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        return options;
+    }
+
+    private void run() throws InterruptedException {
+        var barrier = new CyclicBarrier(threads, this::endPhase);
+        var monitor = Thread.ofPlatform().name("soak-monitor").daemon().start(this::monitor);
+        var workers = new ArrayList<Thread>(threads);
+        phaseStart = System.nanoTime();
+        for (int thread = 0; thread < threads; thread++) {
+            var worker = thread;
+            workers.add(Thread.ofPlatform().name("soak-worker-" + thread).start(() -> work(worker, barrier)));
+        }
+
+        for (var worker : workers) {
+            worker.join();
+        }
+        finished = true;
+        monitor.join();
+    }
+
+    private void work(int thread, CyclicBarrier barrier) {
+        var kinds = SoakWorkload.Kind.values();
+        var latencies = new long[kinds.length][];
+        var counts = new int[kinds.length];
+        for (var kind : kinds) {
+            latencies[kind.ordinal()] = new long[(int) workload.steps().stream()
+                    .flatMap(step -> step.operations().stream())
+                    .filter(operation -> operation.kind() == kind && isOwnMatch(thread, operation))
+                    .count()];
+        }
+
+        var allocatedAtStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (var step : workload.steps()) {
+            var due = phaseStart;
+            for (var operation : step.operations()) {
+                if (!isOwnMatch(thread, operation)) {
+                    continue;
+                }
+
+                if (intervalNanos == 0) {
+                    due = System.nanoTime();
+                } else {
+                    due += intervalNanos;
+                    for (var wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+
+                apply(operation);
+                var kind = operation.kind().ordinal();
+                latencies[kind][counts[kind]++] = System.nanoTime() - due;
+            }
+
+            try {
+                barrier.await();
+            } catch (InterruptedException | BrokenBarrierException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedAtStart);
+        this.latencies[thread] = latencies;
+    }
+
+    private boolean isOwnMatch(int thread, SoakWorkload.Operation operation) {
+        return operation.match() % threads == thread;
+    }
+
+    private void apply(SoakWorkload.Operation operation) {
+        // The workload never breaks a rule, so any rejection is the board getting something wrong
+        try {
+            switch (operation.kind()) {
+                case START -> matchIds[operation.match()] = scoreBoard.newMatch(
+                        SoakWorkload.teamName(operation.homeTeam()), SoakWorkload.teamName(operation.awayTeam()));
+                case GOAL -> scoreBoard.updateMatch(
+                        matchIds[operation.match()], operation.homeScore(), operation.awayScore());
+                case FINISH -> scoreBoard.finishMatch(matchIds[operation.match()]);
+            }
+        } catch (RuntimeException e) {
+            violation(operation + " was rejected: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs in the last thread to finish a phase, while the others wait, and compares the board with the workload.
+     */
+    private void endPhase() {
+        busyNanos += System.nanoTime() - phaseStart;
+        var allocatedAtStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+        var step = workload.steps().get(completedPhases);
+        for (var operation : step.operations()) {
+            var homeTeam = SoakWorkload.teamName(operation.homeTeam());
+            var awayTeam = SoakWorkload.teamName(operation.awayTeam());
+            switch (operation.kind()) {
+                case START -> expectedMatches.put(operation.match(), new MatchSummary(homeTeam, 0, awayTeam, 0));
+                case GOAL -> expectedMatches.put(operation.match(),
+                        new MatchSummary(homeTeam, operation.homeScore(), awayTeam, operation.awayScore()));
+                case FINISH -> expectedMatches.remove(operation.match());
+            }
+        }
+
+        var summary = scoreBoard.getSummary();
+        if (summary.size() != expectedMatches.size()
+                || !new HashSet<>(summary).equals(new HashSet<>(expectedMatches.values()))) {
+            violation("After phase " + completedPhases + " (" + step.phase() + ") the board holds " + summary.size()
+                    + " matches that differ from the " + expectedMatches.size() + " expected ones");
+        }
+
+        // The check runs on a worker thread, but isn't part of the load
+        allocatedBytes.add(allocatedAtStart - THREAD_MX_BEAN.getCurrentThreadAllocatedBytes());
+        completedPhases++;
+        phaseStart = System.nanoTime();
+    }
+
+    /**
+     * Reads the summary while the workers run, and checks every one on its own and against the one before.
+     */
+    private void monitor() {
+        Map<String, MatchSummary> previousMatches = Map.of();
+        var previousPhase = -1;
+        while (!finished) {
+            var phase = completedPhases;
+            var summary = scoreBoard.getSummary();
+            // Only scores within a phase are compared, a pair of teams may meet again in a later one
+            var comparable = phase == completedPhases && phase == previousPhase;
+
+            var matches = new HashMap<String, MatchSummary>(summary.size() * 2);
+            var previousTotal = Integer.MAX_VALUE;
+            for (var match : summary) {
+                var total = match.homeTeamScore() + match.awayTeamScore();
+                if (total > previousTotal) {
+                    violation("Summary is not ordered by total score at " + match);
+                }
+                previousTotal = total;
+
+                if (matches.put(match.homeTeamName(), match) != null
+                        || matches.put(match.awayTeamName(), match) != null) {
+                    violation("A team is in more than one match at " + match);
+                }
+
+                var previous = previousMatches.get(match.homeTeamName());
+                if (comparable && previous != null && previous.awayTeamName().equals(match.awayTeamName())
+                        && (match.homeTeamScore() < previous.homeTeamScore()
+                        || match.awayTeamScore() < previous.awayTeamScore())) {
+                    violation("Score went down from " + previous + " to " + match);
+                }
+            }
+
+            previousMatches = matches;
+            previousPhase = phase == completedPhases ? phase : -1;
+            checkedSummaries++;
+            LockSupport.parkNanos(MONITOR_INTERVAL_NANOS);
+        }
+    }
+
+    private void violation(String message) {
+        if (violationCount.incrementAndGet() <= REPORTED_VIOLATIONS) {
+            synchronized (violations) {
+                violations.add(message);
+            }
+        }
+    }
+
+    private void report() {
+        var operations = workload.operationCount();
+        System.out.printf("throughput   %,.0f ops/s over %,d ms%n",
+                operations * 1e9 / busyNanos, busyNanos / 1_000_000);
+
+        for (var kind : SoakWorkload.Kind.values()) {
+            var kindLatencies = Arrays.stream(latencies)
+                    .flatMapToLong(threadLatencies -> Arrays.stream(threadLatencies[kind.ordinal()]))
+                    .sorted()
+                    .toArray();
+            if (kindLatencies.length == 0) {
+                continue;
+            }
+
+            var line = new StringBuilder(String.format("%-12s", kind.name().toLowerCase()));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                var index = (int) Math.ceil(PERCENTILES[i] * kindLatencies.length) - 1;
+                line.append(' ').append(PERCENTILE_NAMES[i]).append(' ').append(micros(kindLatencies[index]));
+            }
+            line.append(" max ").append(micros(kindLatencies[kindLatencies.length - 1]));
+            System.out.println(line);
+        }
+
+        System.out.printf("allocation   %,d B/op by the driving threads%n", allocatedBytes.sum() / operations);
+        System.out.printf("invariants   %,d violations in %,d phases and %,d summaries%n",
+                violationCount.get(), completedPhases, checkedSummaries);
+        violations.forEach(violation -> System.out.println("  " + violation));
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%,.1fus", nanos / 1000.0);
+    }
+
+    /**
+     * Serializes the calls to a board that isn't thread-safe itself, so it can be driven from many threads too.
+     */
+    private static final class Locked implements LiveScoreBoard, AutoCloseable {
+
+        private final LiveScoreBoard scoreBoard;
+
+        Locked(LiveScoreBoard scoreBoard) {
+            this.scoreBoard = scoreBoard;
+        }
+
+        @Override
+        public synchronized int newMatch(String homeTeam, String awayTeam) {
+            return scoreBoard.newMatch(homeTeam, awayTeam);
+        }
+
+        @Override
+        public synchronized void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+            scoreBoard.updateMatch(matchId, newHomeTeamScore, newAwayTeamScore);
+        }
+
+        @Override
+        public synchronized void finishMatch(int matchId) {
+            scoreBoard.finishMatch(matchId);
+        }
+
+        @Override
+        public synchronized List<MatchSummary> getSummary() {
+            return scoreBoard.getSummary();
+        }
+
+        @Override
+        public synchronized int getCurrentGoalsForTeam(String teamName) {
+            return scoreBoard.getCurrentGoalsForTeam(teamName);
+        }
+
+        @Override
+        public synchronized void close() throws Exception {
+            if (scoreBoard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.sportradar.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A reproducible score board workload made of match days, and the trace file it can be written to and read from.
+ * <p>
+ * Every match day goes through the phases of a real one: all matches kick off at once, goals come in, some of them
+ * in bursts in the same match, and all matches are finished at full time. The same seed always gives the same
+ * operations in the same order. Teams are paired round robin, so no two teams meet on consecutive match days.
+ * <p>
+ * Matches and teams are keys, their index in the workload, rather than ids of any board.
+ */
+record SoakWorkload(List<Step> steps) {
+
+    static final String TOO_FEW_MATCHES = "A match day needs at least two matches";
+    static final String INVALID_TRACE = "Invalid trace line: ";
+
+    // One in this many goals starts a burst of more goals in the same match
+    private static final int BURST_CHANCE = 8;
+    private static final int MAX_BURST = 4;
+
+    enum Phase { OPENING, PLAY, FULL_TIME }
+
+    enum Kind { START, GOAL, FINISH }
+
+    /**
+     * One operation on a match, with the scores it has after a goal.
+     */
+    record Operation(Kind kind, int match, int homeTeam, int awayTeam, int homeScore, int awayScore) {}
+
+    /**
+     * The operations of one phase of a match day, in the order they are sent.
+     */
+    record Step(Phase phase, List<Operation> operations) {}
+
+    static SoakWorkload generate(long seed, int matchDays, int matchesPerDay, int goalsPerMatch) {
+        if (matchesPerDay < 2) {
+            throw new IllegalArgumentException(TOO_FEW_MATCHES);
+        }
+
+        var random = new Random(seed);
+        var steps = new ArrayList<Step>(matchDays * Phase.values().length);
+        var firstMatch = 0;
+        for (int day = 0; day < matchDays; day++) {
+            var opening = new ArrayList<Operation>(matchesPerDay);
+            for (int i = 0; i < matchesPerDay; i++) {
+                var teams = roundRobinPair(2 * matchesPerDay, day, i);
+                var homeFirst = random.nextBoolean();
+                opening.add(new Operation(Kind.START, firstMatch + i,
+                        teams[homeFirst ? 0 : 1], teams[homeFirst ? 1 : 0], 0, 0));
+            }
+
+            var homeScores = new int[matchesPerDay];
+            var awayScores = new int[matchesPerDay];
+            var goals = goalsPerMatch * matchesPerDay;
+            var play = new ArrayList<Operation>(goals);
+            while (play.size() < goals) {
+                var match = random.nextInt(matchesPerDay);
+                var burst = random.nextInt(BURST_CHANCE) == 0 ? 2 + random.nextInt(MAX_BURST - 1) : 1;
+                for (int goal = 0; goal < burst && play.size() < goals; goal++) {
+                    if (random.nextBoolean()) {
+                        homeScores[match]++;
+                    } else {
+                        awayScores[match]++;
+                    }
+                    var start = opening.get(match);
+                    play.add(new Operation(Kind.GOAL, start.match(), start.homeTeam(), start.awayTeam(),
+                            homeScores[match], awayScores[match]));
+                }
+            }
+
+            // Full time comes to all matches at about the same time, but not in the order they kicked off
+            var fullTime = new ArrayList<Operation>(matchesPerDay);
+            for (var start : opening) {
+                fullTime.add(new Operation(Kind.FINISH, start.match(), start.homeTeam(), start.awayTeam(), 0, 0));
+            }
+            Collections.shuffle(fullTime, random);
+
+            steps.add(new Step(Phase.OPENING, List.copyOf(opening)));
+            steps.add(new Step(Phase.PLAY, List.copyOf(play)));
+            steps.add(new Step(Phase.FULL_TIME, List.copyOf(fullTime)));
+            firstMatch += matchesPerDay;
+        }
+
+        return new SoakWorkload(List.copyOf(steps));
+    }
+
+    /**
+     * The two teams of a pair in a round of the circle method: one team stays put while the others rotate around it.
+     */
+    private static int[] roundRobinPair(int teams, int round, int pair) {
+        var rotating = teams - 1;
+        var position = round % rotating;
+        if (pair == 0) {
+            return new int[]{rotating, position};
+        }
+
+        return new int[]{(position + pair) % rotating, (position - pair + rotating) % rotating};
+    }
+
+    static String teamName(int team) {
+        return "Team " + team;
+    }
+
+    int operationCount() {
+        return steps.stream().mapToInt(step -> step.operations().size()).sum();
+    }
+
+    int matchCount() {
+        return steps.stream()
+                .flatMap(step -> step.operations().stream())
+                .mapToInt(operation -> operation.match() + 1)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Writes the workload as text, a line per phase followed by a line per operation, e.g.
+     * <pre>
+     * phase OPENING
+     * start 0 3 0
+     * phase PLAY
+     * goal 0 3 0 1 0
+     * phase FULL_TIME
+     * finish 0 3 0
+     * </pre>
+     */
+    void write(Path trace) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(trace)) {
+            for (var step : steps) {
+                writer.write("phase " + step.phase());
+                writer.newLine();
+                for (var operation : step.operations()) {
+                    writer.write(operation.kind().name().toLowerCase() + " " + operation.match() + " "
+                            + operation.homeTeam() + " " + operation.awayTeam());
+                    if (operation.kind() == Kind.GOAL) {
+                        writer.write(" " + operation.homeScore() + " " + operation.awayScore());
+                    }
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a trace in the format of {@link #write(Path)}, e.g. one that was recorded from production and edited.
+     */
+    static SoakWorkload read(Path trace) throws IOException {
+        var steps = new ArrayList<Step>();
+        List<Operation> operations = null;
+        Phase phase = null;
+        for (var line : Files.readAllLines(trace)) {
+            var fields = line.trim().split("\\s+");
+            if (fields[0].isEmpty()) {
+                continue;
+            }
+
+            try {
+                if (fields[0].equals("phase") && fields.length == 2) {
+                    if (phase != null) {
+                        steps.add(new Step(phase, List.copyOf(operations)));
+                    }
+                    phase = Phase.valueOf(fields[1]);
+                    operations = new ArrayList<>();
+                } else {
+                    var kind = Kind.valueOf(fields[0].toUpperCase());
+                    if (phase == null || fields.length != (kind == Kind.GOAL ? 6 : 4)) {
+                        throw new IllegalArgumentException(INVALID_TRACE + line);
+                    }
+                    operations.add(new Operation(kind, Integer.parseInt(fields[1]),
+                            Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+                            kind == Kind.GOAL ? Integer.parseInt(fields[4]) : 0,
+                            kind == Kind.GOAL ? Integer.parseInt(fields[5]) : 0));
+                }
+            } catch (IllegalArgumentException e) {
+                // Also the NumberFormatException of a field that isn't a number
+                throw new IllegalArgumentException(INVALID_TRACE + line, e);
+            }
+        }
+        if (phase != null) {
+            steps.add(new Step(phase, List.copyOf(operations)));
+        }
+
+        return new SoakWorkload(List.copyOf(steps));
+    }
+}
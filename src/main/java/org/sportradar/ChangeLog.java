@@ -0,0 +1,111 @@
+package org.sportradar;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * The latest score board events in a fixed size ring, so clients can catch up on what changed since a version.
+ * <p>
+ * Events are kept as parallel primitive arrays and only turned into {@link ScoreBoardEvent} objects when a client
+ * asks for them, so recording one allocates nothing.
+ */
+class ChangeLog {
+
+    private static final ScoreBoardEvent.Type[] TYPES = ScoreBoardEvent.Type.values();
+
+    private final TeamRegistry teams;
+    private final long[] versions;
+    private final byte[] types;
+    private final int[] matchIds;
+    private final int[] homeTeamIds;
+    private final int[] awayTeamIds;
+    private final int[] homeTeamScores;
+    private final int[] awayTeamScores;
+    private long size;
+    // Clients at an older version than this have missed events that are no longer in the log
+    private long oldestCompleteVersion;
+
+    ChangeLog(int capacity, TeamRegistry teams) {
+        this.teams = teams;
+        versions = new long[capacity];
+        types = new byte[capacity];
+        matchIds = new int[capacity];
+        homeTeamIds = new int[capacity];
+        awayTeamIds = new int[capacity];
+        homeTeamScores = new int[capacity];
+        awayTeamScores = new int[capacity];
+        size = 0;
+        oldestCompleteVersion = 0;
+    }
+
+    /**
+     * Forgets all events, e.g. after the board was restored at the given version without them.
+     */
+    void clear(long version) {
+        size = 0;
+        oldestCompleteVersion = version;
+    }
+
+    void add(long version, ScoreBoardEvent.Type type, Match match) {
+        int slot = slotOf(size);
+        if (size >= versions.length) {
+            oldestCompleteVersion = versions[slot];
+        }
+
+        versions[slot] = version;
+        types[slot] = (byte) type.ordinal();
+        matchIds[slot] = match.getId();
+        homeTeamIds[slot] = match.getHomeTeam().getId();
+        awayTeamIds[slot] = match.getAwayTeam().getId();
+        homeTeamScores[slot] = match.getHomeTeam().getScore();
+        awayTeamScores[slot] = match.getAwayTeam().getScore();
+        size++;
+    }
+
+    /**
+     * The changes after the given version coalesced to one per match, in the order the matches first changed,
+     * or null if some of them are no longer in the log.
+     */
+    List<ScoreBoardEvent> since(long version) {
+        if (version < oldestCompleteVersion) {
+            return null;
+        }
+
+        // Versions never go down along the log, so the first change after the version is found by binary search
+        long first = Math.max(0, size - versions.length);
+        long last = size;
+        while (first < last) {
+            long middle = (first + last) >>> 1;
+            if (versions[slotOf(middle)] <= version) {
+                first = middle + 1;
+            } else {
+                last = middle;
+            }
+        }
+
+        var changes = new LinkedHashMap<Integer, ScoreBoardEvent>();
+        for (long index = first; index < size; index++) {
+            var event = eventAt(slotOf(index));
+            var previous = changes.get(event.matchId());
+            var next = previous == null ? event : ScoreBoardEvent.coalesce(previous, event);
+            if (next == null) {
+                changes.remove(event.matchId());
+            } else {
+                changes.put(event.matchId(), next);
+            }
+        }
+
+        return new ArrayList<>(changes.values());
+    }
+
+    private int slotOf(long index) {
+        return (int) (index % versions.length);
+    }
+
+    private ScoreBoardEvent eventAt(int slot) {
+        return new ScoreBoardEvent(versions[slot], TYPES[types[slot]], matchIds[slot], new MatchSummary(
+                teams.nameOf(homeTeamIds[slot]), homeTeamScores[slot],
+                teams.nameOf(awayTeamIds[slot]), awayTeamScores[slot]));
+    }
+}
@@ -0,0 +1,196 @@
+package org.sportradar;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+
+/**
+ * Thread-safe score board with the same rules as {@link ScoreBoard}.
+ * <p>
+ * Score updates only lock the match they change, so updates to different matches run in parallel.
+ * Starting and finishing matches share one lock, which keeps the "one match per team" check and the match ids atomic.
+ * <p>
+ * Writers keep the matches ranked in summary order themselves, so no reader ever has to copy and sort the board.
+ * Every mutation holds the shared side of a board lock and a summary is taken under its exclusive side, so it shows
+ * the board as it was between two mutations, never half of one and never some matches before and some after one.
+ * <p>
+ * The summary is published as an immutable snapshot, which readers get without locking as long as the board hasn't
+ * changed. The first reader after a mutation turns the ranking into a new snapshot, in one pass without sorting,
+ * and readers that come in meanwhile wait for it rather than building their own.
+ */
+public class ConcurrentScoreBoard implements LiveScoreBoard {
+
+    private final Map<Integer, Match> matchesById;
+    private final Map<String, Match> matchesByTeamName;
+    // Every ongoing match as it is now, updated by the writers
+    private final NavigableSet<RankedRow> ranking;
+    // Shared by mutations, exclusive for taking a summary
+    private final ReadWriteLock boardLock;
+    private final Object lifecycleLock;
+    private final Object summaryLock;
+    private final LongAdder mutations;
+    private volatile SummarySnapshot summarySnapshot;
+    private int nextMatchId;
+
+    public ConcurrentScoreBoard() {
+        matchesById = new ConcurrentHashMap<>();
+        matchesByTeamName = new ConcurrentHashMap<>();
+        ranking = new ConcurrentSkipListSet<>();
+        boardLock = new ReentrantReadWriteLock();
+        lifecycleLock = new Object();
+        summaryLock = new Object();
+        mutations = new LongAdder();
+        summarySnapshot = new SummarySnapshot(0, List.of());
+        nextMatchId = 0;
+    }
+
+    @Override
+    public int newMatch(String homeTeam, String awayTeam) {
+        // Before the lookup, which doesn't take null names
+        if (!Team.isValidName(homeTeam) || !Team.isValidName(awayTeam)) {
+            throw new IllegalArgumentException(Team.INVALID_TEAM_NAME);
+        }
+
+        synchronized (lifecycleLock) {
+            if (matchesByTeamName.containsKey(homeTeam) || matchesByTeamName.containsKey(awayTeam)) {
+                throw new IllegalArgumentException(ONE_MATCH_PER_TEAM);
+            }
+
+            var match = new Match(nextMatchId, homeTeam, awayTeam);
+            nextMatchId++;
+
+            boardLock.readLock().lock();
+            try {
+                matchesByTeamName.put(homeTeam, match);
+                matchesByTeamName.put(awayTeam, match);
+                matchesById.put(match.getId(), match);
+                ranking.add(RankedRow.of(match));
+                mutations.increment();
+            } finally {
+                boardLock.readLock().unlock();
+            }
+
+            return match.getId();
+        }
+    }
+
+    @Override
+    public void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        var match = getMatch(matchId);
+
+        boardLock.readLock().lock();
+        try {
+            synchronized (match) {
+                // It may have been finished since it was looked up, and must not be ranked again then
+                if (matchesById.get(matchId) != match) {
+                    throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+                }
+
+                var previousRow = RankedRow.of(match);
+                match.updateScores(newHomeTeamScore, newAwayTeamScore);
+                ranking.remove(previousRow);
+                ranking.add(RankedRow.of(match));
+            }
+            mutations.increment();
+        } finally {
+            boardLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void finishMatch(int matchId) {
+        synchronized (lifecycleLock) {
+            boardLock.readLock().lock();
+            try {
+                var matchToRemove = matchesById.remove(matchId);
+                if (matchToRemove == null) {
+                    throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+                }
+
+                matchesByTeamName.remove(matchToRemove.getHomeTeam().getName());
+                matchesByTeamName.remove(matchToRemove.getAwayTeam().getName());
+                synchronized (matchToRemove) {
+                    ranking.remove(RankedRow.of(matchToRemove));
+                }
+                mutations.increment();
+            } finally {
+                boardLock.readLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        var snapshot = summarySnapshot;
+        if (snapshot.version() == mutations.sum()) {
+            return snapshot.summary();
+        }
+
+        synchronized (summaryLock) {
+            // Another reader may have rebuilt it while this one waited
+            snapshot = summarySnapshot;
+            if (snapshot.version() != mutations.sum()) {
+                snapshot = takeSnapshot();
+                summarySnapshot = snapshot;
+            }
+
+            return snapshot.summary();
+        }
+    }
+
+    private SummarySnapshot takeSnapshot() {
+        // Mutations only wait for the copy of the ranking, which is already in summary order
+        RankedRow[] rows;
+        long version;
+        boardLock.writeLock().lock();
+        try {
+            version = mutations.sum();
+            rows = ranking.toArray(RankedRow[]::new);
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+
+        // Big boards are turned into rows on all cores, small ones aren't worth the hand-off
+        var sortedRows = Arrays.stream(rows);
+        var summary = (rows.length >= ScoreBoard.PARALLEL_THRESHOLD ? sortedRows.parallel() : sortedRows)
+                .map(RankedRow::summary)
+                .toList();
+
+        return new SummarySnapshot(version, summary);
+    }
+
+    @Override
+    public int getCurrentGoalsForTeam(String teamName) {
+        var match = matchesByTeamName.get(teamName);
+        if (match == null) {
+            throw new IllegalArgumentException(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+        }
+
+        synchronized (match) {
+            return match.getHomeTeam().getName().equals(teamName)
+                    ? match.getHomeTeam().getScore()
+                    : match.getAwayTeam().getScore();
+        }
+    }
+
+    Match getMatch(int matchId) {
+        var match = matchesById.get(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+        }
+
+        return match;
+    }
+
+    private record SummarySnapshot(long version, List<MatchSummary> summary) {}
+}
@@ -0,0 +1,5 @@
+package org.sportradar;
+
+import java.time.Instant;
+
+public record FinishedMatch(int matchId, MatchSummary result, Instant finishedAt) {}
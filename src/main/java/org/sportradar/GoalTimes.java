@@ -0,0 +1,51 @@
+package org.sportradar;
+
+/**
+ * When the latest goals of a match were scored, in a ring that keeps a fixed number of them.
+ */
+class GoalTimes {
+
+    private final long[] times;
+    // Where the next goal goes, and how many of the slots hold a goal
+    private int next;
+    private int size;
+
+    GoalTimes(int capacity) {
+        times = new long[capacity];
+    }
+
+    void add(long time) {
+        times[next] = time;
+        next = (next + 1) % times.length;
+        size = Math.min(size + 1, times.length);
+    }
+
+    /**
+     * Forgets the latest goals, e.g. the ones a correction took back.
+     */
+    void removeLatest(int count) {
+        var removed = Math.min(count, size);
+        next = Math.floorMod(next - removed, times.length);
+        size -= removed;
+    }
+
+    int countSince(long since) {
+        var count = 0;
+        for (int i = 1; i <= size; i++) {
+            // From the latest goal back, which are in the order they were scored
+            if (times[Math.floorMod(next - i, times.length)] <= since) {
+                break;
+            }
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * The time of the first of the goals {@link #countSince(long)} counts, only for a count above zero.
+     */
+    long firstSince(long since) {
+        return times[Math.floorMod(next - countSince(since), times.length)];
+    }
+}
@@ -0,0 +1,106 @@
+package org.sportradar;
+
+/**
+ * Map from match id to match with primitive int keys, so lookups on the update path don't box the id.
+ * Open addressing with linear probing, removals shift the following entries back instead of leaving tombstones.
+ */
+class IntMatchMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private Match[] values;
+    private int size;
+
+    IntMatchMap() {
+        keys = new int[INITIAL_CAPACITY];
+        values = new Match[INITIAL_CAPACITY];
+    }
+
+    Match get(int key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+
+        return null;
+    }
+
+    Match put(int key, Match value) {
+        // Keep at most half of the slots used so probe sequences stay short
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                var previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        return null;
+    }
+
+    Match remove(int key) {
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        var removed = values[slot];
+        if (removed == null) {
+            return null;
+        }
+
+        // Move back any following entry whose probe sequence passes the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slotOf(keys[next], mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        values[free] = null;
+        size--;
+
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        keys = new int[capacity];
+        values = new Match[capacity];
+        size = 0;
+
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldValues[slot] != null) {
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private static int slotOf(int key, int mask) {
+        // Match ids are sequential, so spread them before masking
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,203 @@
+package org.sportradar;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Just enough JSON for the HTTP API: flat objects of strings and integers, without any library.
+ */
+final class Json {
+
+    static final String INVALID_JSON = "Request body is not a flat JSON object";
+    static final String MISSING_FIELD = "Request body is missing a field: ";
+    static final String WRONG_FIELD_TYPE = "Request body has a field of the wrong type: ";
+
+    private Json() {
+    }
+
+    static String field(String name, int value) {
+        return "{\"" + name + "\":" + value + "}";
+    }
+
+    static String field(String name, String value) {
+        var json = new StringBuilder("{\"").append(name).append("\":");
+        appendString(json, value);
+
+        return json.append('}').toString();
+    }
+
+    static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Parses an object like {"homeTeamName": "Mexico", "homeTeamScore": 1}: strings as String values and numbers as
+     * {@link JsonNumber} values with their source text.
+     */
+    static Map<String, Object> parseObject(String json) {
+        var parser = new Parser(json);
+        var fields = new HashMap<String, Object>();
+
+        parser.expect('{');
+        if (!parser.consume('}')) {
+            do {
+                var name = parser.string();
+                parser.expect(':');
+                fields.put(name, parser.peek() == '"' ? parser.string() : new JsonNumber(parser.integer()));
+            } while (parser.consume(','));
+            parser.expect('}');
+        }
+        parser.end();
+
+        return fields;
+    }
+
+    static String stringField(Map<String, Object> fields, String name) {
+        if (!(field(fields, name) instanceof String value)) {
+            throw new IllegalArgumentException(WRONG_FIELD_TYPE + name);
+        }
+
+        return value;
+    }
+
+    static int intField(Map<String, Object> fields, String name) {
+        if (!(field(fields, name) instanceof JsonNumber value)) {
+            throw new IllegalArgumentException(WRONG_FIELD_TYPE + name);
+        }
+
+        try {
+            return Integer.parseInt(value.text());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_JSON);
+        }
+    }
+
+    private static Object field(Map<String, Object> fields, String name) {
+        var value = fields.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(MISSING_FIELD + name);
+        }
+
+        return value;
+    }
+
+    record JsonNumber(String text) {}
+
+    private static final class Parser {
+
+        private final String json;
+        private int position;
+
+        Parser(String json) {
+            this.json = json;
+        }
+
+        char peek() {
+            skipWhitespace();
+            if (position == json.length()) {
+                throw new IllegalArgumentException(INVALID_JSON);
+            }
+
+            return json.charAt(position);
+        }
+
+        boolean consume(char expected) {
+            if (peek() == expected) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        void expect(char expected) {
+            if (!consume(expected)) {
+                throw new IllegalArgumentException(INVALID_JSON);
+            }
+        }
+
+        void end() {
+            skipWhitespace();
+            if (position != json.length()) {
+                throw new IllegalArgumentException(INVALID_JSON);
+            }
+        }
+
+        String string() {
+            expect('"');
+            var value = new StringBuilder();
+            while (position < json.length()) {
+                var c = json.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                } else if (position < json.length()) {
+                    var escaped = json.charAt(position++);
+                    switch (escaped) {
+                        case '"', '\\', '/' -> value.append(escaped);
+                        case 'n' -> value.append('\n');
+                        case 'r' -> value.append('\r');
+                        case 't' -> value.append('\t');
+                        case 'b' -> value.append('\b');
+                        case 'f' -> value.append('\f');
+                        case 'u' -> {
+                            if (position + 4 > json.length()) {
+                                throw new IllegalArgumentException(INVALID_JSON);
+                            }
+                            try {
+                                value.append((char) Integer.parseInt(json, position, position + 4, 16));
+                            } catch (NumberFormatException e) {
+                                throw new IllegalArgumentException(INVALID_JSON);
+                            }
+                            position += 4;
+                        }
+                        default -> throw new IllegalArgumentException(INVALID_JSON);
+                    }
+                }
+            }
+
+            throw new IllegalArgumentException(INVALID_JSON);
+        }
+
+        String integer() {
+            var start = position;
+            if (position < json.length() && json.charAt(position) == '-') {
+                position++;
+            }
+            while (position < json.length() && Character.isDigit(json.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw new IllegalArgumentException(INVALID_JSON);
+            }
+
+            return json.substring(start, position);
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.sportradar;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of durations in nanoseconds, in the style of HdrHistogram.
+ * <p>
+ * Values below 32 get a bucket each, above that every power of two is split into 32 buckets,
+ * so any recorded value is reported within about 3% from 1ns up to the full long range, in a fixed 15 KiB.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong count;
+    private final AtomicLong max;
+
+    LatencyHistogram() {
+        counts = new AtomicLongArray(BUCKETS);
+        count = new AtomicLong();
+        max = new AtomicLong();
+    }
+
+    void record(long nanos) {
+        var value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * The highest value of the bucket the percentile falls in, so it's never reported lower than it was.
+     */
+    long getPercentile(double percentile) {
+        var total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        var seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        var exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        var subBucket = bucket % SUB_BUCKETS;
+        var lowest = (1L << exponent) | ((long) subBucket << (exponent - SUB_BUCKET_BITS));
+        var width = 1L << (exponent - SUB_BUCKET_BITS);
+
+        // The last bucket ends at Long.MAX_VALUE, where lowest + width would overflow
+        return lowest + (width - 1);
+    }
+}
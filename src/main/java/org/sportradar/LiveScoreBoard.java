@@ -0,0 +1,20 @@
+package org.sportradar;
+
+import java.util.List;
+
+/**
+ * The operations shared by all score board implementations.
+ * See {@link ScoreBoard} for the single-threaded board and {@link ConcurrentScoreBoard} for the thread-safe one.
+ */
+public interface LiveScoreBoard {
+
+    int newMatch(String homeTeam, String awayTeam);
+
+    void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore);
+
+    void finishMatch(int matchId);
+
+    List<MatchSummary> getSummary();
+
+    int getCurrentGoalsForTeam(String teamName);
+}
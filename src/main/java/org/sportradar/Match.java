@@ -1,18 +1,40 @@
 package org.sportradar;
 
+import java.util.Set;
+
 class Match {
 
     static final String NO_CHANGES_IN_SCORE_UPDATE = "Updated scores are identical to current scores";
     static final String SCORE_UPDATE_FOR_BOTH_TEAMS = "Both teams can't score at the same time";
+    static final String NEGATIVE_SCORE = "A score can not be negative";
 
     private final int id;
     private final Team homeTeam;
     private final Team awayTeam;
+    private Set<String> tags;
+    // Per summary format, encoded on demand and dropped whenever the scores change
+    private byte[][] encodedRows;
+    // The sequence of the last sequenced update, and the ones that arrived early, created on the first gap
+    private long lastSequence;
+    private ReorderWindow reorderWindow;
+    // When the latest goals were scored, created on the first goal, and how many of them are within the momentum window
+    private GoalTimes goalTimes;
+    private int recentGoals;
+    private boolean goalExpiryScheduled;
 
     Match(int id, String homeTeamName, String awayTeamName) {
+        this(id, new Team(homeTeamName), new Team(awayTeamName));
+    }
+
+    Match(int id, Team homeTeam, Team awayTeam) {
+        this(id, homeTeam, awayTeam, Set.of());
+    }
+
+    Match(int id, Team homeTeam, Team awayTeam, Set<String> tags) {
         this.id = id;
-        homeTeam = new Team(homeTeamName);
-        awayTeam = new Team(awayTeamName);
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.tags = tags;
     }
 
     Team getHomeTeam() {
@@ -23,17 +45,74 @@ class Match {
         return awayTeam;
     }
 
+    Set<String> getTags() {
+        return tags;
+    }
+
+    void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
     void updateScores(int newHomeTeamScore, int newAwayTeamScore) {
-        if (newHomeTeamScore == homeTeam.getScore() && newAwayTeamScore == awayTeam.getScore()) {
-            throw new IllegalArgumentException(NO_CHANGES_IN_SCORE_UPDATE);
+        var result = validateScores(newHomeTeamScore, newAwayTeamScore);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+
+        applyScores(newHomeTeamScore, newAwayTeamScore);
+    }
+
+    ScoreBoardResult validateScores(int newHomeTeamScore, int newAwayTeamScore) {
+        return validateScores(homeTeam.getScore(), awayTeam.getScore(), newHomeTeamScore, newAwayTeamScore);
+    }
+
+    /**
+     * The rules for a score update, for boards that keep scores without Match objects.
+     */
+    static ScoreBoardResult validateScores(int homeTeamScore, int awayTeamScore,
+                                           int newHomeTeamScore, int newAwayTeamScore) {
+        if (newHomeTeamScore == homeTeamScore && newAwayTeamScore == awayTeamScore) {
+            return ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE;
         }
 
-        if (newHomeTeamScore != homeTeam.getScore() && newAwayTeamScore != awayTeam.getScore()) {
-            throw new IllegalArgumentException(SCORE_UPDATE_FOR_BOTH_TEAMS);
+        if (newHomeTeamScore != homeTeamScore && newAwayTeamScore != awayTeamScore) {
+            return ScoreBoardResult.SCORE_UPDATE_FOR_BOTH_TEAMS;
         }
 
+        // Only one of the scores changes, the other one is always valid
+        return newHomeTeamScore != homeTeamScore
+                ? Team.validateScore(homeTeamScore, newHomeTeamScore)
+                : Team.validateScore(awayTeamScore, newAwayTeamScore);
+    }
+
+    /**
+     * Sets scores that {@link #validateScores(int, int)} accepted.
+     */
+    void applyScores(int newHomeTeamScore, int newAwayTeamScore) {
         homeTeam.updateScore(newHomeTeamScore);
         awayTeam.updateScore(newAwayTeamScore);
+        encodedRows = null;
+    }
+
+    /**
+     * A correction may change both scores in any direction, as long as it changes something.
+     */
+    ScoreBoardResult validateCorrection(int correctedHomeTeamScore, int correctedAwayTeamScore) {
+        if (correctedHomeTeamScore == homeTeam.getScore() && correctedAwayTeamScore == awayTeam.getScore()) {
+            return ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE;
+        }
+
+        if (correctedHomeTeamScore < 0 || correctedAwayTeamScore < 0) {
+            return ScoreBoardResult.NEGATIVE_SCORE;
+        }
+
+        return ScoreBoardResult.OK;
+    }
+
+    void correctScores(int correctedHomeTeamScore, int correctedAwayTeamScore) {
+        homeTeam.correctScore(correctedHomeTeamScore);
+        awayTeam.correctScore(correctedAwayTeamScore);
+        encodedRows = null;
     }
 
     int getTotalScore() {
@@ -43,4 +122,72 @@ class Match {
     int getId() {
         return id;
     }
+
+    byte[] getEncodedRow(SummaryFormat format) {
+        if (encodedRows == null) {
+            encodedRows = new byte[SummaryFormat.values().length][];
+        }
+        if (encodedRows[format.ordinal()] == null) {
+            encodedRows[format.ordinal()] = SummaryEncoding.encodeRow(format,
+                    homeTeam.getEncodedName(format), homeTeam.getScore(),
+                    awayTeam.getEncodedName(format), awayTeam.getScore());
+        }
+
+        return encodedRows[format.ordinal()];
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    /**
+     * The early updates of the match, null if none has ever arrived early.
+     */
+    ReorderWindow getReorderWindow() {
+        return reorderWindow;
+    }
+
+    ReorderWindow getOrCreateReorderWindow(int capacity) {
+        if (reorderWindow == null) {
+            reorderWindow = new ReorderWindow(capacity);
+        }
+
+        return reorderWindow;
+    }
+
+    GoalTimes getGoalTimes() {
+        return goalTimes;
+    }
+
+    GoalTimes getOrCreateGoalTimes(int capacity) {
+        if (goalTimes == null) {
+            goalTimes = new GoalTimes(capacity);
+        }
+
+        return goalTimes;
+    }
+
+    int getRecentGoals() {
+        return recentGoals;
+    }
+
+    void setRecentGoals(int recentGoals) {
+        this.recentGoals = recentGoals;
+    }
+
+    boolean isGoalExpiryScheduled() {
+        return goalExpiryScheduled;
+    }
+
+    void setGoalExpiryScheduled(boolean goalExpiryScheduled) {
+        this.goalExpiryScheduled = goalExpiryScheduled;
+    }
+
+    MatchSummary toSummary() {
+        return new MatchSummary(homeTeam.getName(), homeTeam.getScore(), awayTeam.getName(), awayTeam.getScore());
+    }
 }
@@ -0,0 +1,14 @@
+package org.sportradar;
+
+import java.util.Set;
+
+/**
+ * A match to start with {@link ScoreBoard#bulkLoad(java.util.Collection)}, with the same tags as
+ * {@link ScoreBoard#newMatch(String, String, Set)}.
+ */
+public record MatchFixture(String homeTeam, String awayTeam, Set<String> tags) {
+
+    public MatchFixture(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, Set.of());
+    }
+}
@@ -0,0 +1,225 @@
+package org.sportradar;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.sportradar.ScoreBoard.NEGATIVE_SUMMARY_SIZE;
+
+/**
+ * The final results of finished matches, kept apart from the live board.
+ * <p>
+ * Results are stored column by column in primitive arrays, one row per match in the order they finished,
+ * so a finished match costs a few ints rather than a set of objects.
+ * The rows of every team and every total score are indexed, and rows are in time order, so queries never scan the
+ * whole history.
+ */
+public class MatchHistory {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TeamRegistry teams;
+    private int[] matchIds;
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int[] homeTeamScores;
+    private int[] awayTeamScores;
+    private long[] finishedAtMillis;
+    private int size;
+    // Row numbers per team id and per total score, in time order. Team ids are dense, but a corrected score can be
+    // anything, so the totals are a sorted map rather than an array as long as the biggest total
+    private RowIndex[] rowsByTeamId;
+    private final NavigableMap<Integer, RowIndex> rowsByTotalScore;
+
+    MatchHistory(TeamRegistry teams) {
+        this.teams = teams;
+        matchIds = new int[INITIAL_CAPACITY];
+        homeTeamIds = new int[INITIAL_CAPACITY];
+        awayTeamIds = new int[INITIAL_CAPACITY];
+        homeTeamScores = new int[INITIAL_CAPACITY];
+        awayTeamScores = new int[INITIAL_CAPACITY];
+        finishedAtMillis = new long[INITIAL_CAPACITY];
+        size = 0;
+        rowsByTeamId = new RowIndex[16];
+        rowsByTotalScore = new TreeMap<>();
+    }
+
+    void add(int matchId, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore, long finishedAt) {
+        if (size == matchIds.length) {
+            var capacity = size * 2;
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeTeamScores = Arrays.copyOf(homeTeamScores, capacity);
+            awayTeamScores = Arrays.copyOf(awayTeamScores, capacity);
+            finishedAtMillis = Arrays.copyOf(finishedAtMillis, capacity);
+        }
+
+        var row = size++;
+        matchIds[row] = matchId;
+        homeTeamIds[row] = homeTeamId;
+        awayTeamIds[row] = awayTeamId;
+        homeTeamScores[row] = homeTeamScore;
+        awayTeamScores[row] = awayTeamScore;
+        // Rows must stay in time order for the range queries, even if the clock goes back
+        finishedAtMillis[row] = row > 0 ? Math.max(finishedAt, finishedAtMillis[row - 1]) : finishedAt;
+
+        rowsByTeamId = indexRow(rowsByTeamId, homeTeamId, row);
+        if (awayTeamId != homeTeamId) {
+            rowsByTeamId = indexRow(rowsByTeamId, awayTeamId, row);
+        }
+        rowsByTotalScore.computeIfAbsent(homeTeamScore + awayTeamScore, ignored -> new RowIndex()).add(row);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * All results of the team, in the order the matches finished.
+     */
+    public List<FinishedMatch> resultsForTeam(String teamName) {
+        var teamId = teams.idOf(teamName);
+        var rows = teamId >= 0 && teamId < rowsByTeamId.length ? rowsByTeamId[teamId] : null;
+        if (rows == null) {
+            return List.of();
+        }
+
+        var results = new ArrayList<FinishedMatch>(rows.size);
+        for (int i = 0; i < rows.size; i++) {
+            results.add(toResult(rows.rows[i]));
+        }
+
+        return results;
+    }
+
+    /**
+     * The results of matches that finished from {@code from} and before {@code to}, in the order they finished.
+     */
+    public List<FinishedMatch> resultsBetween(Instant from, Instant to) {
+        var first = firstRowAtOrAfter(finishedAtMillis, 0, size, toMillis(from));
+        var end = firstRowAtOrAfter(finishedAtMillis, first, size, toMillis(to));
+
+        var results = new ArrayList<FinishedMatch>(end - first);
+        for (int row = first; row < end; row++) {
+            results.add(toResult(row));
+        }
+
+        return results;
+    }
+
+    /**
+     * The matches with the biggest total scores that finished from {@code from} and before {@code to},
+     * or in case of identical totals, the latest finished first.
+     */
+    public List<FinishedMatch> highestScoring(Instant from, Instant to, int numberOfMatches) {
+        if (numberOfMatches < 0) {
+            throw new IllegalArgumentException(NEGATIVE_SUMMARY_SIZE);
+        }
+
+        var results = new ArrayList<FinishedMatch>();
+        var totals = rowsByTotalScore.descendingMap().values().iterator();
+        while (totals.hasNext() && results.size() < numberOfMatches) {
+            var rows = totals.next();
+            var first = rows.firstAtOrAfter(finishedAtMillis, toMillis(from));
+            var end = rows.firstAtOrAfter(finishedAtMillis, toMillis(to));
+            for (int i = end - 1; i >= first && results.size() < numberOfMatches; i--) {
+                results.add(toResult(rows.rows[i]));
+            }
+        }
+
+        return results;
+    }
+
+    void forEachRow(RowConsumer consumer) {
+        for (int row = 0; row < size; row++) {
+            consumer.accept(matchIds[row], homeTeamIds[row], awayTeamIds[row],
+                    homeTeamScores[row], awayTeamScores[row], finishedAtMillis[row]);
+        }
+    }
+
+    interface RowConsumer {
+        void accept(int matchId, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore, long finishedAt);
+    }
+
+    private FinishedMatch toResult(int row) {
+        return new FinishedMatch(
+                matchIds[row],
+                new MatchSummary(
+                        teams.nameOf(homeTeamIds[row]),
+                        homeTeamScores[row],
+                        teams.nameOf(awayTeamIds[row]),
+                        awayTeamScores[row]),
+                Instant.ofEpochMilli(finishedAtMillis[row]));
+    }
+
+    private static RowIndex[] indexRow(RowIndex[] indexes, int key, int row) {
+        if (key >= indexes.length) {
+            indexes = Arrays.copyOf(indexes, Math.max(key + 1, indexes.length * 2));
+        }
+        if (indexes[key] == null) {
+            indexes[key] = new RowIndex();
+        }
+        indexes[key].add(row);
+
+        return indexes;
+    }
+
+    private static long toMillis(Instant instant) {
+        try {
+            return instant.toEpochMilli();
+        } catch (ArithmeticException e) {
+            // Instants too far from the epoch, e.g. Instant.MIN and Instant.MAX as open bounds
+            return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static int firstRowAtOrAfter(long[] times, int from, int to, long time) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (times[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Growable list of row numbers in ascending order.
+     */
+    private static class RowIndex {
+
+        int[] rows = new int[4];
+        int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int firstAtOrAfter(long[] times, long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (times[rows[middle]] < time) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.sportradar;
+
+/**
+ * A match with the goals that were scored in it within the momentum window, see {@link ScoreBoard#getHotMatches(int)}.
+ */
+public record MatchMomentum(MatchSummary match, int recentGoals) {
+
+    public double goalsPerMinute() {
+        return recentGoals / (double) ScoreBoard.MOMENTUM_WINDOW.toMinutes();
+    }
+}
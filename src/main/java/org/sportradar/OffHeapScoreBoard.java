@@ -0,0 +1,391 @@
+package org.sportradar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.NEGATIVE_SUMMARY_SIZE;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+
+/**
+ * Single-threaded score board with the same rules and summary as {@link ScoreBoard}, that keeps its matches
+ * outside the Java heap, for simulations with hundreds of thousands of matches.
+ * <p>
+ * Every match is one fixed-size row in a slab of direct memory, and the indexes next to it are plain int arrays,
+ * so the garbage collector has nothing to trace however many matches are on the board.
+ * Only the team names and the summaries that are asked for are objects.
+ * There is no ranked index to keep up to date, mutations only write a row, and the summary is sorted from primitive
+ * keys the first time it's asked for after a mutation.
+ * <p>
+ * Closing the board drops all of its memory at once, and any later call fails.
+ */
+public class OffHeapScoreBoard implements LiveScoreBoard, AutoCloseable {
+
+    static final String SCORE_BOARD_IS_CLOSED = "Score board is closed";
+    static final int ROWS_PER_SLAB = 1 << 16;
+
+    // The layout of a match row, a free row has NO_MATCH as its match id
+    private static final int MATCH_ID = 0;
+    private static final int HOME_TEAM_ID = 4;
+    private static final int AWAY_TEAM_ID = 8;
+    private static final int HOME_TEAM_SCORE = 12;
+    private static final int AWAY_TEAM_SCORE = 16;
+    private static final int ROW_SIZE = 20;
+    private static final int NO_MATCH = -1;
+    private static final int NO_ROW = -1;
+    private static final long NO_ENTRY = -1L;
+
+    private final TeamRegistry teams;
+    private ByteBuffer[] slabs;
+    // Rows of live matches by match id, with open addressing so it only grows with the matches on the board.
+    // An entry is the match id in the high half and the row in the low half, so a lookup touches one cache line.
+    private long[] rowIndex;
+    // Indexed by team id, NO_ROW when the team isn't playing
+    private int[] rowsByTeamId;
+    // Rows of finished matches, reused before the board grows
+    private int[] freeRows;
+    private int freeRowCount;
+    private int rowCount;
+    private int liveMatches;
+    private int nextMatchId;
+    private List<MatchSummary> summary;
+    private boolean closed;
+
+    public OffHeapScoreBoard() {
+        teams = new TeamRegistry();
+        slabs = new ByteBuffer[0];
+        rowIndex = new long[16];
+        rowsByTeamId = new int[16];
+        Arrays.fill(rowIndex, NO_ENTRY);
+        Arrays.fill(rowsByTeamId, NO_ROW);
+        freeRows = new int[16];
+    }
+
+    /**
+     * Gives the team a compact id that can be used instead of its name, the same id every time.
+     */
+    public int registerTeam(String teamName) {
+        checkOpen();
+        var teamId = teams.register(teamName);
+        if (teamId >= rowsByTeamId.length) {
+            rowsByTeamId = grow(rowsByTeamId, teamId);
+        }
+
+        return teamId;
+    }
+
+    @Override
+    public int newMatch(String homeTeam, String awayTeam) {
+        checkOpen();
+        if (!Team.isValidName(homeTeam) || !Team.isValidName(awayTeam)) {
+            throw new IllegalArgumentException(Team.INVALID_TEAM_NAME);
+        }
+        // Checked by name before the teams are registered, so a rejected match leaves the registry as it was
+        if (isPlaying(teams.idOf(homeTeam)) || isPlaying(teams.idOf(awayTeam))) {
+            throw new IllegalArgumentException(ScoreBoard.ONE_MATCH_PER_TEAM);
+        }
+
+        return newMatch(registerTeam(homeTeam), registerTeam(awayTeam));
+    }
+
+    public int newMatch(int homeTeamId, int awayTeamId) {
+        checkOpen();
+        if (!teams.contains(homeTeamId) || !teams.contains(awayTeamId)) {
+            throw new IllegalArgumentException(TeamRegistry.TEAM_DOES_NOT_EXIST);
+        }
+        if (isPlaying(homeTeamId) || isPlaying(awayTeamId)) {
+            throw new IllegalArgumentException(ScoreBoard.ONE_MATCH_PER_TEAM);
+        }
+
+        var matchId = nextMatchId++;
+        var row = allocateRow();
+        var slab = slabOf(row);
+        var offset = offsetOf(row);
+        slab.putInt(offset + MATCH_ID, matchId);
+        slab.putInt(offset + HOME_TEAM_ID, homeTeamId);
+        slab.putInt(offset + AWAY_TEAM_ID, awayTeamId);
+        slab.putInt(offset + HOME_TEAM_SCORE, 0);
+        slab.putInt(offset + AWAY_TEAM_SCORE, 0);
+
+        indexRow(matchId, row);
+        rowsByTeamId[homeTeamId] = row;
+        rowsByTeamId[awayTeamId] = row;
+        liveMatches++;
+        summary = null;
+
+        return matchId;
+    }
+
+    @Override
+    public void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        var result = tryUpdateMatch(matchId, newHomeTeamScore, newAwayTeamScore);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Same as {@link #updateMatch(int, int, int)}, but a broken rule is returned rather than thrown.
+     */
+    public ScoreBoardResult tryUpdateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        checkOpen();
+        var row = rowOf(matchId);
+        if (row == NO_ROW) {
+            return ScoreBoardResult.MATCH_DOES_NOT_EXIST;
+        }
+
+        var slab = slabOf(row);
+        var offset = offsetOf(row);
+        var result = Match.validateScores(slab.getInt(offset + HOME_TEAM_SCORE), slab.getInt(offset + AWAY_TEAM_SCORE),
+                newHomeTeamScore, newAwayTeamScore);
+        if (result.isOk()) {
+            slab.putInt(offset + HOME_TEAM_SCORE, newHomeTeamScore);
+            slab.putInt(offset + AWAY_TEAM_SCORE, newAwayTeamScore);
+            summary = null;
+        }
+
+        return result;
+    }
+
+    @Override
+    public void finishMatch(int matchId) {
+        checkOpen();
+        var row = rowOf(matchId);
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+        }
+
+        var slab = slabOf(row);
+        var offset = offsetOf(row);
+        rowsByTeamId[slab.getInt(offset + HOME_TEAM_ID)] = NO_ROW;
+        rowsByTeamId[slab.getInt(offset + AWAY_TEAM_ID)] = NO_ROW;
+        unindexRow(matchId);
+        slab.putInt(offset + MATCH_ID, NO_MATCH);
+        freeRow(row);
+        liveMatches--;
+        summary = null;
+    }
+
+    /**
+     * All live matches in the summary order of {@link ScoreBoard#getSummary()}, built at most once between mutations.
+     */
+    @Override
+    public List<MatchSummary> getSummary() {
+        checkOpen();
+        if (summary == null) {
+            summary = buildSummary();
+        }
+
+        return summary;
+    }
+
+    public List<MatchSummary> getTop(int numberOfMatches) {
+        if (numberOfMatches < 0) {
+            throw new IllegalArgumentException(NEGATIVE_SUMMARY_SIZE);
+        }
+
+        var fullSummary = getSummary();
+        return fullSummary.subList(0, Math.min(numberOfMatches, fullSummary.size()));
+    }
+
+    @Override
+    public int getCurrentGoalsForTeam(String teamName) {
+        checkOpen();
+        var teamId = teams.idOf(teamName);
+        var row = teams.contains(teamId) ? rowsByTeamId[teamId] : NO_ROW;
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+        }
+
+        var slab = slabOf(row);
+        var offset = offsetOf(row);
+        return slab.getInt(offset + HOME_TEAM_ID) == teamId
+                ? slab.getInt(offset + HOME_TEAM_SCORE)
+                : slab.getInt(offset + AWAY_TEAM_SCORE);
+    }
+
+    public int size() {
+        return liveMatches;
+    }
+
+    TeamRegistry getTeams() {
+        return teams;
+    }
+
+    /**
+     * The slots of the index from match id to row.
+     */
+    int getIndexCapacity() {
+        return rowIndex.length;
+    }
+
+    /**
+     * The direct memory the match rows take up.
+     */
+    long getOffHeapBytes() {
+        return (long) slabs.length * ROWS_PER_SLAB * ROW_SIZE;
+    }
+
+    /**
+     * Releases every slab and index of the board at once. Direct memory goes back to the system as soon as the
+     * collector notices the slabs are gone, without any per-match work.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        slabs = null;
+        rowIndex = null;
+        rowsByTeamId = null;
+        freeRows = null;
+        summary = null;
+    }
+
+    private List<MatchSummary> buildSummary() {
+        // Bigger total score first, then the latest added match first, which is the reverse order of these keys
+        var keys = new long[liveMatches];
+        var count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            var slab = slabOf(row);
+            var offset = offsetOf(row);
+            var matchId = slab.getInt(offset + MATCH_ID);
+            if (matchId != NO_MATCH) {
+                var totalScore = slab.getInt(offset + HOME_TEAM_SCORE) + slab.getInt(offset + AWAY_TEAM_SCORE);
+                keys[count++] = (long) totalScore << 32 | matchId;
+            }
+        }
+        Arrays.sort(keys);
+
+        var rows = new ArrayList<MatchSummary>(keys.length);
+        for (int i = keys.length - 1; i >= 0; i--) {
+            var row = rowOf((int) keys[i]);
+            var slab = slabOf(row);
+            var offset = offsetOf(row);
+            rows.add(new MatchSummary(
+                    teams.nameOf(slab.getInt(offset + HOME_TEAM_ID)), slab.getInt(offset + HOME_TEAM_SCORE),
+                    teams.nameOf(slab.getInt(offset + AWAY_TEAM_ID)), slab.getInt(offset + AWAY_TEAM_SCORE)));
+        }
+
+        return Collections.unmodifiableList(rows);
+    }
+
+    private boolean isPlaying(int teamId) {
+        return teams.contains(teamId) && rowsByTeamId[teamId] != NO_ROW;
+    }
+
+    private int rowOf(int matchId) {
+        if (matchId == NO_MATCH) {
+            return NO_ROW;
+        }
+
+        int mask = rowIndex.length - 1;
+        for (int slot = slotOf(matchId, mask); rowIndex[slot] != NO_ENTRY; slot = (slot + 1) & mask) {
+            if (matchIdOf(rowIndex[slot]) == matchId) {
+                return (int) rowIndex[slot];
+            }
+        }
+
+        return NO_ROW;
+    }
+
+    private void indexRow(int matchId, int row) {
+        // Keep at most half of the slots used so probe sequences stay short, like IntMatchMap
+        if ((liveMatches + 1) * 2 > rowIndex.length) {
+            var oldIndex = rowIndex;
+            rowIndex = new long[oldIndex.length * 2];
+            Arrays.fill(rowIndex, NO_ENTRY);
+            for (var entry : oldIndex) {
+                if (entry != NO_ENTRY) {
+                    insert(entry);
+                }
+            }
+        }
+
+        insert((long) matchId << 32 | row);
+    }
+
+    private void insert(long entry) {
+        int mask = rowIndex.length - 1;
+        int slot = slotOf(matchIdOf(entry), mask);
+        while (rowIndex[slot] != NO_ENTRY) {
+            slot = (slot + 1) & mask;
+        }
+        rowIndex[slot] = entry;
+    }
+
+    private void unindexRow(int matchId) {
+        int mask = rowIndex.length - 1;
+        int slot = slotOf(matchId, mask);
+        while (matchIdOf(rowIndex[slot]) != matchId) {
+            slot = (slot + 1) & mask;
+        }
+
+        // Move back any following entry whose probe sequence passes the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; rowIndex[next] != NO_ENTRY; next = (next + 1) & mask) {
+            int home = slotOf(matchIdOf(rowIndex[next]), mask);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                rowIndex[free] = rowIndex[next];
+                free = next;
+            }
+        }
+        rowIndex[free] = NO_ENTRY;
+    }
+
+    private static int matchIdOf(long entry) {
+        return (int) (entry >> 32);
+    }
+
+    private static int slotOf(int matchId, int mask) {
+        // Runs of eight consecutive match ids share a cache line like in a plain array, and the runs are spread so
+        // that new ids don't pile up behind the ones of long running matches
+        int hash = (matchId >>> 3) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) << 3 | matchId & 7) & mask;
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+
+        if (rowCount == slabs.length * ROWS_PER_SLAB) {
+            // New slabs are added next to the old ones, so existing rows are never copied
+            slabs = Arrays.copyOf(slabs, slabs.length + 1);
+            slabs[slabs.length - 1] = ByteBuffer.allocateDirect(ROWS_PER_SLAB * ROW_SIZE).order(ByteOrder.nativeOrder());
+        }
+
+        return rowCount++;
+    }
+
+    private void freeRow(int row) {
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    private ByteBuffer slabOf(int row) {
+        return slabs[row / ROWS_PER_SLAB];
+    }
+
+    private static int offsetOf(int row) {
+        return (row % ROWS_PER_SLAB) * ROW_SIZE;
+    }
+
+    private static int[] grow(int[] index, int minIndex) {
+        var length = index.length;
+        var grown = Arrays.copyOf(index, Math.max(minIndex + 1, length * 2));
+        Arrays.fill(grown, length, grown.length, NO_ROW);
+
+        return grown;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException(SCORE_BOARD_IS_CLOSED);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.sportradar;
+
+/**
+ * A copy of one match with what it's ranked on, sorted in summary order.
+ */
+record RankedRow(int id, int totalScore, MatchSummary summary) implements Comparable<RankedRow> {
+
+    static RankedRow of(Match match) {
+        return new RankedRow(match.getId(), match.getTotalScore(), match.toSummary());
+    }
+
+    @Override
+    public int compareTo(RankedRow other) {
+        if (totalScore != other.totalScore) {
+            return Integer.compare(other.totalScore, totalScore);
+        }
+
+        return Integer.compare(other.id, id);
+    }
+}
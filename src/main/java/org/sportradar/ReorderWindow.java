@@ -0,0 +1,81 @@
+package org.sportradar;
+
+/**
+ * The updates of one match that arrived ahead of their turn, until the updates before them have arrived as well.
+ * <p>
+ * The window only holds sequences less than its capacity ahead of the last applied one, so every sequence has a slot
+ * of its own at sequence % capacity, and no update is ever evicted by another.
+ */
+class ReorderWindow {
+
+    private final long[] sequences;
+    private final int[] homeTeamScores;
+    private final int[] awayTeamScores;
+    private int size;
+
+    ReorderWindow(int capacity) {
+        // Sequences start at 1, so 0 marks a free slot
+        sequences = new long[capacity];
+        homeTeamScores = new int[capacity];
+        awayTeamScores = new int[capacity];
+        size = 0;
+    }
+
+    boolean contains(long sequence) {
+        return sequences[slotOf(sequence)] == sequence;
+    }
+
+    void put(long sequence, int homeTeamScore, int awayTeamScore) {
+        var slot = slotOf(sequence);
+        sequences[slot] = sequence;
+        homeTeamScores[slot] = homeTeamScore;
+        awayTeamScores[slot] = awayTeamScore;
+        size++;
+    }
+
+    int homeTeamScore(long sequence) {
+        return homeTeamScores[slotOf(sequence)];
+    }
+
+    int awayTeamScore(long sequence) {
+        return awayTeamScores[slotOf(sequence)];
+    }
+
+    void remove(long sequence) {
+        sequences[slotOf(sequence)] = 0;
+        size--;
+    }
+
+    /**
+     * Drops the updates up to and including the sequence, e.g. when the match was brought past them another way.
+     */
+    void removeUpTo(long sequence) {
+        for (int slot = 0; slot < sequences.length; slot++) {
+            if (sequences[slot] != 0 && sequences[slot] <= sequence) {
+                sequences[slot] = 0;
+                size--;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(BufferedUpdateConsumer consumer) {
+        for (int slot = 0; slot < sequences.length; slot++) {
+            if (sequences[slot] != 0) {
+                consumer.accept(sequences[slot], homeTeamScores[slot], awayTeamScores[slot]);
+            }
+        }
+    }
+
+    private int slotOf(long sequence) {
+        return (int) Math.floorMod(sequence, (long) sequences.length);
+    }
+
+    @FunctionalInterface
+    interface BufferedUpdateConsumer {
+        void accept(long sequence, int homeTeamScore, int awayTeamScore);
+    }
+}
@@ -1,84 +1,1174 @@
 package org.sportradar;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
-public class ScoreBoard {
+import static org.sportradar.ScoreBoardEvent.Type.*;
+import static org.sportradar.ScoreBoardMetrics.Operation.*;
+
+public class ScoreBoard implements LiveScoreBoard {
 
     public static final String TEAM_IS_NOT_IN_AN_ACTIVE_MATCH = "Team is not in an active match";
     static final String ONE_MATCH_PER_TEAM = "One of the teams is already in a match";
     static final String MATCH_DOES_NOT_EXIST = "Match does not exist";
-    private final List<Match> matches;
+    static final String NEGATIVE_SUMMARY_SIZE = "Summary size can not be negative";
+    static final String DUPLICATE_UPDATE = "Update with this sequence was already received";
+    static final String UPDATE_BUFFERED = "Update is waiting for the updates before it";
+    static final String SEQUENCE_OUT_OF_WINDOW = "Update sequence is too far ahead of the match";
+    static final String MISSING_CORRECTION_REASON = "A score correction needs a reason";
+    static final String INVALID_TAG = "Tags cannot be null or empty";
+    static final String MOMENTUM_NOT_TRACKED = "Hot matches need momentum tracking, see trackMomentum()";
+    static final int REORDER_WINDOW = 64;
+    static final int CHANGE_LOG_SIZE = 4096;
+    static final int FILTERED_SUMMARY_CACHE_SIZE = 16;
+    static final Duration MOMENTUM_WINDOW = Duration.ofMinutes(15);
+    static final int GOAL_TIMES_PER_MATCH = 16;
+    // One second ticks, and a turn of the wheel that is longer than the momentum window
+    static final long MOMENTUM_TICK_MILLIS = 1000;
+    static final int MOMENTUM_WHEEL_SLOTS = 1024;
+    // Below this many matches, splitting the work over threads costs more than it saves
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    // Bigger total score first, or in case of identical totals, the latest added match first
+    static final Comparator<Match> SUMMARY_ORDER = Comparator.comparingInt(Match::getTotalScore).reversed()
+            .thenComparing(Comparator.comparingInt(Match::getId).reversed());
+    // Most goals within the momentum window first, and the summary order between matches with as many.
+    // Written out rather than chained, so the summary order's own comparators keep the key extractors they inline
+    static final Comparator<Match> MOMENTUM_ORDER = (match, other) -> {
+        var byRecentGoals = Integer.compare(other.getRecentGoals(), match.getRecentGoals());
+        return byRecentGoals != 0 ? byRecentGoals : SUMMARY_ORDER.compare(match, other);
+    };
+
+    private final TeamRegistry teams;
+    private final IntMatchMap matchesById;
+    // Indexed by team id, null when the team isn't in an ongoing match
+    private Match[] matchesByTeamId;
+    private final NavigableSet<Match> rankedMatches;
+    // The same ranking for the matches with a tag, per tag, without the tags no live match has
+    private final Map<String, NavigableSet<Match>> rankedMatchesByTag;
+    // Only the matches with goals within the momentum window, and when those goals leave the window.
+    // Both stay empty until momentum is tracked, so boards that never show hot matches don't pay for them.
+    private final NavigableSet<Match> matchesByMomentum;
+    private final TimerWheel<Match> goalExpiries;
+    private boolean tracksMomentum;
+    private final ScoreBoardPublisher changes;
+    private final ChangeLog changeLog;
+    private final MatchHistory history;
+    private final boolean keepsHistory;
+    private final Clock clock;
+    // Only replaced once a recovered board has replayed its journal
+    private ScoreBoardMetrics metrics;
+    private ScoreBoardJournal journal;
+    private List<MatchSummary> summary;
+    // The latest filtered summaries asked for since the last mutation, least recently used first
+    private final Map<SummaryFilter, List<MatchSummary>> filteredSummaries;
+    // Per summary format, null until it's asked for after a mutation
+    private final ByteBuffer[] encodedSummaries;
+    private long version;
     private int nextMatchId;
 
     public ScoreBoard() {
+        this(ScoreBoardMetrics.NOOP);
+    }
+
+    /**
+     * A board that reports its operations to the given metrics, e.g. a {@link ScoreBoardMetricsRecorder}.
+     */
+    public ScoreBoard(ScoreBoardMetrics metrics) {
+        this(Clock.systemUTC(), ForkJoinPool.commonPool(), metrics);
+    }
+
+    ScoreBoard(Executor eventExecutor) {
+        this(Clock.systemUTC(), eventExecutor);
+    }
+
+    ScoreBoard(Clock clock, Executor eventExecutor) {
+        this(clock, eventExecutor, ScoreBoardMetrics.NOOP);
+    }
+
+    ScoreBoard(Clock clock, Executor eventExecutor, ScoreBoardMetrics metrics) {
+        this(clock, eventExecutor, metrics, true);
+    }
+
+    /**
+     * A board that doesn't archive its finished matches, for boards that are part of a bigger one whose history
+     * nobody reads.
+     */
+    ScoreBoard(Clock clock, Executor eventExecutor, ScoreBoardMetrics metrics, boolean keepsHistory) {
+        this.clock = clock;
+        this.metrics = metrics;
+        this.keepsHistory = keepsHistory;
         nextMatchId = 0;
-        matches = new ArrayList<>();
+        changes = new ScoreBoardPublisher(eventExecutor);
+        teams = new TeamRegistry();
+        changeLog = new ChangeLog(CHANGE_LOG_SIZE, teams);
+        version = 0;
+        matchesById = new IntMatchMap();
+        matchesByTeamId = new Match[16];
+        rankedMatches = new TreeSet<>(SUMMARY_ORDER);
+        rankedMatchesByTag = new HashMap<>();
+        matchesByMomentum = new TreeSet<>(MOMENTUM_ORDER);
+        goalExpiries = new TimerWheel<>(MOMENTUM_WHEEL_SLOTS, MOMENTUM_TICK_MILLIS, clock.millis());
+        tracksMomentum = false;
+        filteredSummaries = new LinkedHashMap<>(FILTERED_SUMMARY_CACHE_SIZE + 1, 1f, true);
+        history = new MatchHistory(teams);
+        encodedSummaries = new ByteBuffer[SummaryFormat.values().length];
+    }
+
+    /**
+     * Restores the board from the journal in the given directory, or starts a new journal there if there is none.
+     * Every change to the returned board is journaled, so it can be recovered the same way after a restart.
+     */
+    public static ScoreBoard recover(Path directory) throws IOException {
+        return recover(directory, ScoreBoardMetrics.NOOP);
+    }
+
+    /**
+     * Same as {@link #recover(Path)}, for a board that reports its operations to the given metrics.
+     * The replayed changes aren't reported, only the operations on the returned board are.
+     */
+    public static ScoreBoard recover(Path directory, ScoreBoardMetrics metrics) throws IOException {
+        return recover(directory, ScoreBoardJournal.SNAPSHOT_INTERVAL, Clock.systemUTC(), ForkJoinPool.commonPool(),
+                metrics);
+    }
+
+    static ScoreBoard recover(Path directory, int snapshotInterval) throws IOException {
+        return recover(directory, snapshotInterval, Clock.systemUTC(), ForkJoinPool.commonPool(),
+                ScoreBoardMetrics.NOOP);
     }
 
+    static ScoreBoard recover(Path directory, int snapshotInterval, Clock clock, Executor eventExecutor,
+                              ScoreBoardMetrics metrics) throws IOException {
+        var scoreBoard = new ScoreBoard(clock, eventExecutor, ScoreBoardMetrics.NOOP);
+        // Replayed goals were scored at some earlier time that isn't journaled, and as momentum can only be tracked
+        // once the board is returned, they don't count as recent
+        scoreBoard.journal = ScoreBoardJournal.open(directory, snapshotInterval, scoreBoard);
+        scoreBoard.metrics = metrics;
+        metrics.liveMatches(scoreBoard.matchesById.size());
+
+        return scoreBoard;
+    }
+
+    /**
+     * Forces all journaled changes to disk and stops journaling, a no-op for boards that were not recovered.
+     */
+    public void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Gives the team a compact id that can be used instead of its name, the same id every time.
+     */
+    public int registerTeam(String teamName) {
+        if (teamName != null && !fitsInJournal(teamName)) {
+            throw ScoreBoardResult.TOO_LARGE_TO_JOURNAL.toException();
+        }
+
+        var registeredTeams = teams.size();
+        var teamId = teams.register(teamName);
+        if (teamId >= matchesByTeamId.length) {
+            matchesByTeamId = Arrays.copyOf(matchesByTeamId, Math.max(teamId + 1, matchesByTeamId.length * 2));
+        }
+
+        if (journal != null && teams.size() > registeredTeams) {
+            journal.teamRegistered(teamName);
+            snapshotWhenDue();
+        }
+
+        return teamId;
+    }
+
+    @Override
     public int newMatch(String homeTeam, String awayTeam) {
-        if (anyTeamIsAlreadyInAnOngoingMatch(homeTeam, awayTeam)) {
-            throw new IllegalArgumentException(ONE_MATCH_PER_TEAM);
+        var matchId = tryNewMatch(homeTeam, awayTeam);
+        if (matchId < 0) {
+            throw ScoreBoardResult.ofNewMatch(matchId).toException();
+        }
+
+        return matchId;
+    }
+
+    /**
+     * Starts a match with tags like its competition or region, which {@link #getSummary(SummaryFilter)} can filter on.
+     */
+    public int newMatch(String homeTeam, String awayTeam, Set<String> tags) {
+        var matchId = tryNewMatch(homeTeam, awayTeam, tags);
+        if (matchId < 0) {
+            throw ScoreBoardResult.ofNewMatch(matchId).toException();
+        }
+
+        return matchId;
+    }
+
+    public int newMatch(int homeTeamId, int awayTeamId) {
+        var matchId = tryNewMatch(homeTeamId, awayTeamId);
+        if (matchId < 0) {
+            throw ScoreBoardResult.ofNewMatch(matchId).toException();
+        }
+
+        return matchId;
+    }
+
+    /**
+     * Same as {@link #newMatch(String, String)}, but a broken rule is returned rather than thrown: the id of the new
+     * match, or a negative code that {@link ScoreBoardResult#ofNewMatch(int)} turns into the rule.
+     */
+    public int tryNewMatch(String homeTeam, String awayTeam) {
+        return tryNewMatch(homeTeam, awayTeam, Set.of());
+    }
+
+    public int tryNewMatch(String homeTeam, String awayTeam, Set<String> tags) {
+        // Checked by name first, so a rejected match doesn't register and journal its teams
+        var result = checkNewMatch(homeTeam, awayTeam, tags);
+        if (!result.isOk()) {
+            return rejectNewMatch(result, metrics.startTime());
+        }
+
+        return tryNewMatch(registerTeam(homeTeam), registerTeam(awayTeam), tags);
+    }
+
+    /**
+     * Same as {@link #tryNewMatch(String, String)} for registered team ids.
+     */
+    public int tryNewMatch(int homeTeamId, int awayTeamId) {
+        return tryNewMatch(homeTeamId, awayTeamId, Set.of());
+    }
+
+    public int tryNewMatch(int homeTeamId, int awayTeamId, Set<String> tags) {
+        var startTime = metrics.startTime();
+        var result = checkNewMatch(homeTeamId, awayTeamId);
+        if (result.isOk() && !areValidTags(tags)) {
+            result = ScoreBoardResult.INVALID_TAG;
+        }
+        if (result.isOk() && !tagsFitInJournal(tags)) {
+            result = ScoreBoardResult.TOO_LARGE_TO_JOURNAL;
+        }
+        if (!result.isOk()) {
+            return rejectNewMatch(result, startTime);
+        }
+
+        var matchId = startMatch(nextMatchId, homeTeamId, awayTeamId, Set.copyOf(tags));
+        metrics.succeeded(NEW_MATCH, matchId, startTime);
+
+        return matchId;
+    }
+
+    private int rejectNewMatch(ScoreBoardResult result, long startTime) {
+        metrics.rejected(NEW_MATCH, -1, result, startTime);
+
+        return result.asNewMatchCode();
+    }
+
+    /**
+     * Starts a match with an id handed out by the caller, for boards that are one shard of a {@link ShardedScoreBoard}.
+     */
+    int newMatch(int matchId, String homeTeam, String awayTeam) {
+        var result = checkNewMatch(homeTeam, awayTeam, Set.of());
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+
+        return startMatch(matchId, registerTeam(homeTeam), registerTeam(awayTeam), Set.of());
+    }
+
+    private static boolean areValidTags(Set<String> tags) {
+        if (tags == null) {
+            return false;
+        }
+        for (var tag : tags) {
+            if (tag == null || tag.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Records that don't fit in the journal are rejected before the board changes, so it never gets ahead of it
+    private boolean fitsInJournal(String teamName) {
+        return journal == null || ScoreBoardJournal.fitsTeamName(teamName);
+    }
+
+    private boolean tagsFitInJournal(Set<String> tags) {
+        return journal == null || tags.isEmpty() || ScoreBoardJournal.fitsTags(tags);
+    }
+
+    private ScoreBoardResult checkNewMatch(String homeTeam, String awayTeam, Set<String> tags) {
+        if (!Team.isValidName(homeTeam) || !Team.isValidName(awayTeam)) {
+            return ScoreBoardResult.INVALID_TEAM_NAME;
         }
 
-        var newMatchId = nextMatchId;
-        nextMatchId++;
+        if (!fitsInJournal(homeTeam) || !fitsInJournal(awayTeam)) {
+            return ScoreBoardResult.TOO_LARGE_TO_JOURNAL;
+        }
+
+        if (isInAnOngoingMatch(homeTeam) || isInAnOngoingMatch(awayTeam)) {
+            return ScoreBoardResult.ONE_MATCH_PER_TEAM;
+        }
+
+        if (!areValidTags(tags)) {
+            return ScoreBoardResult.INVALID_TAG;
+        }
+
+        return tagsFitInJournal(tags) ? ScoreBoardResult.OK : ScoreBoardResult.TOO_LARGE_TO_JOURNAL;
+    }
+
+    private ScoreBoardResult checkNewMatch(int homeTeamId, int awayTeamId) {
+        if (!teams.contains(homeTeamId) || !teams.contains(awayTeamId)) {
+            return ScoreBoardResult.TEAM_DOES_NOT_EXIST;
+        }
+
+        if (anyTeamIsAlreadyInAnOngoingMatch(homeTeamId, awayTeamId)) {
+            return ScoreBoardResult.ONE_MATCH_PER_TEAM;
+        }
+
+        return ScoreBoardResult.OK;
+    }
+
+    /**
+     * Starts a match between teams that {@link #checkNewMatch(int, int)} accepted.
+     */
+    private int startMatch(int matchId, int homeTeamId, int awayTeamId, Set<String> tags) {
+        var homeTeam = new Team(homeTeamId, teams.nameOf(homeTeamId));
+        var awayTeam = new Team(awayTeamId, teams.nameOf(awayTeamId));
+
+        addMatch(new Match(matchId, homeTeam, awayTeam, tags));
+
+        return matchId;
+    }
+
+    private void addMatch(Match match) {
+        nextMatchId = Math.max(nextMatchId, match.getId() + 1);
+
+        matchesById.put(match.getId(), match);
+        matchesByTeamId[match.getHomeTeam().getId()] = match;
+        matchesByTeamId[match.getAwayTeam().getId()] = match;
+        rank(match);
+        startNewVersion();
+        recordChange(MATCH_STARTED, match);
+        metrics.liveMatches(matchesById.size());
+
+        if (journal != null) {
+            journal.matchStarted(match);
+            snapshotWhenDue();
+        }
+    }
+
+    /**
+     * Starts all the matches of e.g. a match day at once, with ids in the order of the fixtures.
+     * <p>
+     * Either every match is started or, when any of them breaks a rule, none is.
+     * The teams are checked in one pass over a hash set, and for a big load the matches are built in parallel
+     * before they are put on the board one after the other, which is the part that has to stay single-threaded.
+     * Every match is journaled and published like one started with {@link #newMatch(String, String, Set)}.
+     */
+    public int[] bulkLoad(Collection<MatchFixture> fixtures) {
+        var startTime = metrics.startTime();
+        var loadedFixtures = List.copyOf(fixtures);
+        var teamsInLoad = new HashSet<String>();
+        for (var fixture : loadedFixtures) {
+            var result = checkFixture(fixture, teamsInLoad);
+            if (!result.isOk()) {
+                metrics.rejected(BULK_LOAD, -1, result, startTime);
+                throw result.toException();
+            }
+        }
+
+        var homeTeamIds = new int[loadedFixtures.size()];
+        var awayTeamIds = new int[loadedFixtures.size()];
+        for (int i = 0; i < loadedFixtures.size(); i++) {
+            homeTeamIds[i] = registerTeam(loadedFixtures.get(i).homeTeam());
+            awayTeamIds[i] = registerTeam(loadedFixtures.get(i).awayTeam());
+        }
+
+        var firstMatchId = nextMatchId;
+        var matches = new Match[loadedFixtures.size()];
+        var indexes = IntStream.range(0, matches.length);
+        (matches.length >= PARALLEL_THRESHOLD ? indexes.parallel() : indexes).forEach(i -> matches[i] = new Match(
+                firstMatchId + i,
+                new Team(homeTeamIds[i], teams.nameOf(homeTeamIds[i])),
+                new Team(awayTeamIds[i], teams.nameOf(awayTeamIds[i])),
+                Set.copyOf(loadedFixtures.get(i).tags())));
+
+        var matchIds = new int[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            addMatch(matches[i]);
+            matchIds[i] = matches[i].getId();
+        }
+
+        metrics.succeeded(BULK_LOAD, -1, startTime);
+        return matchIds;
+    }
+
+    private ScoreBoardResult checkFixture(MatchFixture fixture, Set<String> teamsInLoad) {
+        if (!Team.isValidName(fixture.homeTeam()) || !Team.isValidName(fixture.awayTeam())) {
+            return ScoreBoardResult.INVALID_TEAM_NAME;
+        }
+
+        if (!areValidTags(fixture.tags())) {
+            return ScoreBoardResult.INVALID_TAG;
+        }
+
+        if (!fitsInJournal(fixture.homeTeam()) || !fitsInJournal(fixture.awayTeam())
+                || !tagsFitInJournal(fixture.tags())) {
+            return ScoreBoardResult.TOO_LARGE_TO_JOURNAL;
+        }
+
+        if (!teamsInLoad.add(fixture.homeTeam()) || !teamsInLoad.add(fixture.awayTeam())
+                || isInAnOngoingMatch(fixture.homeTeam()) || isInAnOngoingMatch(fixture.awayTeam())) {
+            return ScoreBoardResult.ONE_MATCH_PER_TEAM;
+        }
 
-        matches.add(new Match(newMatchId, homeTeam, awayTeam));
+        return ScoreBoardResult.OK;
+    }
 
-        return newMatchId;
+    private boolean isInAnOngoingMatch(String teamName) {
+        var teamId = teams.idOf(teamName);
+        return teams.contains(teamId) && matchesByTeamId[teamId] != null;
     }
 
-    private boolean anyTeamIsAlreadyInAnOngoingMatch(String homeTeam, String awayTeam) {
-        // This check feels pretty heavy and there are probably better ways to implement it.
-        // Although new matches doesn't start too often, so it might be ok depending on total # of matches in the scoreboard.
-        return matches.stream()
-                .flatMap(match -> Stream.of(
-                        match.getHomeTeam().getName(),
-                        match.getAwayTeam().getName())
-                )
-                .anyMatch(teamName -> teamName.equals(homeTeam) || teamName.equals(awayTeam));
+    private boolean anyTeamIsAlreadyInAnOngoingMatch(int homeTeamId, int awayTeamId) {
+        return matchesByTeamId[homeTeamId] != null || matchesByTeamId[awayTeamId] != null;
     }
 
     Match getMatch(int matchId) {
-        return matches.stream()
-                .filter(match -> match.getId() == matchId)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(MATCH_DOES_NOT_EXIST));
+        var match = matchesById.get(matchId);
+        if (match == null) {
+            throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+        }
+
+        return match;
     }
 
+    @Override
     public void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
-        Match match = getMatch(matchId);
-        match.updateScores(newHomeTeamScore, newAwayTeamScore);
+        var result = tryUpdateMatch(matchId, newHomeTeamScore, newAwayTeamScore);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Same as {@link #updateMatch(int, int, int)}, but a broken rule is returned rather than thrown.
+     * Rejections don't allocate anything, so redundant updates from a feed are cheap.
+     */
+    public ScoreBoardResult tryUpdateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        var startTime = metrics.startTime();
+        var match = matchesById.get(matchId);
+        if (match == null) {
+            metrics.rejected(UPDATE_MATCH, matchId, ScoreBoardResult.MATCH_DOES_NOT_EXIST, startTime);
+            return ScoreBoardResult.MATCH_DOES_NOT_EXIST;
+        }
+
+        var result = applyUpdate(match, newHomeTeamScore, newAwayTeamScore, startTime);
+        if (result.isOk() && journal != null) {
+            journal.scoreUpdated(matchId, newHomeTeamScore, newAwayTeamScore);
+            snapshotWhenDue();
+        }
+
+        return result;
+    }
+
+    /**
+     * Same as {@link #tryUpdateMatch(int, int, int)} for feeds that number the updates of every match 1, 2, 3...,
+     * and may deliver them more than once or out of order.
+     * <p>
+     * An update that was already received is dropped as {@link ScoreBoardResult#DUPLICATE_UPDATE}.
+     * One that arrives before the updates ahead of it is held back as {@link ScoreBoardResult#UPDATE_BUFFERED},
+     * and applied as soon as the gap is filled, so a late update costs a short wait rather than a reload of the match.
+     * Only {@value #REORDER_WINDOW} sequences are held back per match, anything further ahead is rejected as
+     * {@link ScoreBoardResult#SEQUENCE_OUT_OF_WINDOW}.
+     * An update that breaks a rule still takes up its sequence, so the ones after it are not held back forever.
+     * <p>
+     * The sequences of a match are only counted by this method, mixing it with unsequenced updates of the same match
+     * is up to the caller.
+     */
+    public ScoreBoardResult tryUpdateMatch(int matchId, long sequence, int newHomeTeamScore, int newAwayTeamScore) {
+        var startTime = metrics.startTime();
+        var match = matchesById.get(matchId);
+        if (match == null) {
+            metrics.rejected(UPDATE_MATCH, matchId, ScoreBoardResult.MATCH_DOES_NOT_EXIST, startTime);
+            return ScoreBoardResult.MATCH_DOES_NOT_EXIST;
+        }
+
+        var expectedSequence = match.getLastSequence() + 1;
+        var reorderWindow = match.getReorderWindow();
+        if (sequence < expectedSequence || reorderWindow != null && reorderWindow.contains(sequence)) {
+            metrics.rejected(UPDATE_MATCH, matchId, ScoreBoardResult.DUPLICATE_UPDATE, startTime);
+            return ScoreBoardResult.DUPLICATE_UPDATE;
+        }
+        if (sequence - expectedSequence >= REORDER_WINDOW) {
+            metrics.rejected(UPDATE_MATCH, matchId, ScoreBoardResult.SEQUENCE_OUT_OF_WINDOW, startTime);
+            return ScoreBoardResult.SEQUENCE_OUT_OF_WINDOW;
+        }
+
+        ScoreBoardResult result;
+        if (sequence > expectedSequence) {
+            match.getOrCreateReorderWindow(REORDER_WINDOW).put(sequence, newHomeTeamScore, newAwayTeamScore);
+            result = ScoreBoardResult.UPDATE_BUFFERED;
+        } else {
+            result = applyUpdate(match, newHomeTeamScore, newAwayTeamScore, startTime);
+            match.setLastSequence(sequence);
+            applyBufferedUpdates(match);
+        }
+
+        // Replaying every update that got a sequence in order brings back both the scores and the held back updates
+        if (journal != null) {
+            journal.sequencedUpdate(matchId, sequence, newHomeTeamScore, newAwayTeamScore);
+            snapshotWhenDue();
+        }
+
+        return result;
+    }
+
+    private void applyBufferedUpdates(Match match) {
+        var reorderWindow = match.getReorderWindow();
+        if (reorderWindow == null) {
+            return;
+        }
+
+        // Nobody waits for the results of these, but they are reported to the metrics like any update
+        long sequence;
+        while (reorderWindow.size() > 0 && reorderWindow.contains(sequence = match.getLastSequence() + 1)) {
+            applyUpdate(match,
+                    reorderWindow.homeTeamScore(sequence),
+                    reorderWindow.awayTeamScore(sequence),
+                    metrics.startTime());
+            reorderWindow.remove(sequence);
+            match.setLastSequence(sequence);
+        }
     }
 
+    /**
+     * Brings a match that lost a sequenced update back in step with its feed, from the scores the feed reports as of
+     * the given sequence, e.g. after a reload of the match.
+     * <p>
+     * Without it, a sequence that never arrives holds back every later update of the match, and once
+     * {@value #REORDER_WINDOW} of them are waiting, rejects the rest as {@link ScoreBoardResult#SEQUENCE_OUT_OF_WINDOW}.
+     * Held back updates up to the sequence are dropped, as the scores already include them, and the ones after it are
+     * applied. The scores are set like a {@link #correctScore(int, int, int, String) correction} when they changed.
+     * A sequence the match is already past is dropped as {@link ScoreBoardResult#DUPLICATE_UPDATE}.
+     */
+    public void resyncMatch(int matchId, long sequence, int homeTeamScore, int awayTeamScore) {
+        var result = tryResyncMatch(matchId, sequence, homeTeamScore, awayTeamScore);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Same as {@link #resyncMatch(int, long, int, int)}, but a broken rule is returned rather than thrown.
+     */
+    public ScoreBoardResult tryResyncMatch(int matchId, long sequence, int homeTeamScore, int awayTeamScore) {
+        var startTime = metrics.startTime();
+        var match = matchesById.get(matchId);
+        var result = ScoreBoardResult.OK;
+        if (match == null) {
+            result = ScoreBoardResult.MATCH_DOES_NOT_EXIST;
+        } else if (sequence <= match.getLastSequence()) {
+            result = ScoreBoardResult.DUPLICATE_UPDATE;
+        } else if (homeTeamScore < 0 || awayTeamScore < 0) {
+            result = ScoreBoardResult.NEGATIVE_SCORE;
+        }
+        if (!result.isOk()) {
+            metrics.rejected(RESYNC_MATCH, matchId, result, startTime);
+            return result;
+        }
+
+        var reorderWindow = match.getReorderWindow();
+        if (reorderWindow != null) {
+            reorderWindow.removeUpTo(sequence);
+        }
+        if (homeTeamScore != match.getHomeTeam().getScore() || awayTeamScore != match.getAwayTeam().getScore()) {
+            applyCorrection(match, homeTeamScore, awayTeamScore);
+        }
+        match.setLastSequence(sequence);
+        applyBufferedUpdates(match);
+
+        if (journal != null) {
+            journal.matchResynced(matchId, sequence, homeTeamScore, awayTeamScore);
+            snapshotWhenDue();
+        }
+
+        metrics.succeeded(RESYNC_MATCH, matchId, startTime);
+        return result;
+    }
+
+    private ScoreBoardResult applyUpdate(Match match, int newHomeTeamScore, int newAwayTeamScore, long startTime) {
+        var result = match.validateScores(newHomeTeamScore, newAwayTeamScore);
+        if (!result.isOk()) {
+            metrics.rejected(UPDATE_MATCH, match.getId(), result, startTime);
+            return result;
+        }
+
+        var matchAbove = rankedMatches.lower(match);
+
+        // The ranking is keyed on the scores, so the match has to be taken out while they change
+        var now = expireGoals();
+        unrank(match);
+        match.applyScores(newHomeTeamScore, newAwayTeamScore);
+        recordGoals(match, 1, now);
+        rank(match);
+
+        startNewVersion();
+        recordScoreChange(match, matchAbove);
+
+        metrics.succeeded(UPDATE_MATCH, match.getId(), startTime);
+        return result;
+    }
+
+    /**
+     * Sets the scores of a match to what they should have been, e.g. after a goal was disallowed.
+     * <p>
+     * Unlike {@link #updateMatch(int, int, int)}, both scores may change at once and go down, so this is meant for
+     * operators rather than feeds, and is not part of {@link LiveScoreBoard}.
+     * The match keeps its id and with it its place among matches with the same total score.
+     * Subscribers get a {@link ScoreBoardEvent.Type#SCORE_CORRECTED} event, and the reason is kept in the journal.
+     */
+    public void correctScore(int matchId, int correctedHomeTeamScore, int correctedAwayTeamScore, String reason) {
+        var result = tryCorrectScore(matchId, correctedHomeTeamScore, correctedAwayTeamScore, reason);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Same as {@link #correctScore(int, int, int, String)}, but a broken rule is returned rather than thrown.
+     */
+    public ScoreBoardResult tryCorrectScore(int matchId, int correctedHomeTeamScore, int correctedAwayTeamScore,
+                                            String reason) {
+        var startTime = metrics.startTime();
+        var match = matchesById.get(matchId);
+        var result = match == null
+                ? ScoreBoardResult.MATCH_DOES_NOT_EXIST
+                : match.validateCorrection(correctedHomeTeamScore, correctedAwayTeamScore);
+        if (result.isOk() && (reason == null || reason.isBlank())) {
+            result = ScoreBoardResult.MISSING_CORRECTION_REASON;
+        }
+        if (result.isOk() && journal != null && !ScoreBoardJournal.fitsCorrectionReason(reason)) {
+            result = ScoreBoardResult.TOO_LARGE_TO_JOURNAL;
+        }
+        if (!result.isOk()) {
+            metrics.rejected(CORRECT_SCORE, matchId, result, startTime);
+            return result;
+        }
+
+        applyCorrection(match, correctedHomeTeamScore, correctedAwayTeamScore);
+
+        if (journal != null) {
+            journal.scoreCorrected(matchId, correctedHomeTeamScore, correctedAwayTeamScore, reason);
+            snapshotWhenDue();
+        }
+
+        metrics.succeeded(CORRECT_SCORE, matchId, startTime);
+        return result;
+    }
+
+    private void applyCorrection(Match match, int correctedHomeTeamScore, int correctedAwayTeamScore) {
+        // Taken out and put back like any update, so only this match moves in the ranking
+        var goals = correctedHomeTeamScore + correctedAwayTeamScore - match.getTotalScore();
+        var now = expireGoals();
+        unrank(match);
+        match.correctScores(correctedHomeTeamScore, correctedAwayTeamScore);
+        recordGoals(match, goals, now);
+        rank(match);
+
+        startNewVersion();
+        recordChange(SCORE_CORRECTED, match);
+    }
+
+    /**
+     * Applies the events in order, with the same rules as {@link #updateMatch(int, int, int)}.
+     * Rejected events don't stop the batch, and every match in it is only re-ranked once.
+     */
+    public List<ScoreEventResult> applyBatch(Collection<ScoreEvent> events) {
+        var startTime = metrics.startTime();
+        var results = new ArrayList<ScoreEventResult>(events.size());
+        // Every match in the batch with the match that was above it before the batch, which may be null
+        var batchMatches = new LinkedHashMap<Match, Match>();
+        var updatedMatches = new LinkedHashSet<Match>();
+        var appliedEvents = new ArrayList<ScoreEvent>();
+
+        for (var event : events) {
+            var match = matchesById.get(event.matchId());
+            if (match != null && !batchMatches.containsKey(match)) {
+                batchMatches.put(match, rankedMatches.lower(match));
+            }
+        }
+
+        var now = expireGoals();
+        batchMatches.keySet().forEach(this::unrank);
+        try {
+            for (var event : events) {
+                var match = matchesById.get(event.matchId());
+                if (match == null) {
+                    results.add(new ScoreEventResult(event, MATCH_DOES_NOT_EXIST));
+                    metrics.rejectedInBatch(event.matchId(), ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+                    continue;
+                }
+
+                var result = match.validateScores(event.homeTeamScore(), event.awayTeamScore());
+                if (result.isOk()) {
+                    match.applyScores(event.homeTeamScore(), event.awayTeamScore());
+                    recordGoals(match, 1, now);
+                    updatedMatches.add(match);
+                    appliedEvents.add(event);
+                } else {
+                    metrics.rejectedInBatch(event.matchId(), result);
+                }
+                results.add(new ScoreEventResult(event, result.message()));
+            }
+        } finally {
+            batchMatches.keySet().forEach(this::rank);
+        }
+
+        // The whole batch is one new version
+        if (!updatedMatches.isEmpty()) {
+            startNewVersion();
+            updatedMatches.forEach(match -> recordScoreChange(match, batchMatches.get(match)));
+
+            if (journal != null) {
+                journal.batchApplied(appliedEvents);
+                snapshotWhenDue();
+            }
+        }
+
+        metrics.succeeded(APPLY_BATCH, -1, startTime);
+        return results;
+    }
+
+    @Override
     public void finishMatch(int matchId) {
-        Match matchToRemove = matches.stream()
-                .filter(match -> match.getId() == matchId)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(MATCH_DOES_NOT_EXIST));
+        var result = tryFinishMatch(matchId);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Same as {@link #finishMatch(int)}, but a match that doesn't exist is returned rather than thrown.
+     */
+    public ScoreBoardResult tryFinishMatch(int matchId) {
+        var startTime = metrics.startTime();
+        if (matchesById.get(matchId) == null) {
+            metrics.rejected(FINISH_MATCH, matchId, ScoreBoardResult.MATCH_DOES_NOT_EXIST, startTime);
+            return ScoreBoardResult.MATCH_DOES_NOT_EXIST;
+        }
+
+        finishMatch(matchId, clock.millis());
+        metrics.succeeded(FINISH_MATCH, matchId, startTime);
+
+        return ScoreBoardResult.OK;
+    }
+
+    void finishMatch(int matchId, long finishedAt) {
+        var matchToRemove = matchesById.remove(matchId);
+        if (matchToRemove == null) {
+            throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+        }
+
+        matchesByTeamId[matchToRemove.getHomeTeam().getId()] = null;
+        matchesByTeamId[matchToRemove.getAwayTeam().getId()] = null;
+        unrank(matchToRemove);
+        if (keepsHistory) {
+            history.add(matchId,
+                    matchToRemove.getHomeTeam().getId(),
+                    matchToRemove.getAwayTeam().getId(),
+                    matchToRemove.getHomeTeam().getScore(),
+                    matchToRemove.getAwayTeam().getScore(),
+                    finishedAt);
+        }
+        startNewVersion();
+        recordChange(MATCH_FINISHED, matchToRemove);
+        metrics.liveMatches(matchesById.size());
+
+        if (journal != null) {
+            journal.matchFinished(matchId, finishedAt);
+            snapshotWhenDue();
+        }
+    }
+
+    /**
+     * The final results of the matches finished on this board, always empty for a board that keeps no history.
+     */
+    public MatchHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Events for every match that is started, updated or finished from now on.
+     * Subscribers that fall behind get the latest state of each changed match rather than every event.
+     */
+    public Flow.Publisher<ScoreBoardEvent> changes() {
+        return changes;
+    }
+
+    /**
+     * The current version of the board, which is increased by every change to it.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The changes since the given version, so a client only has to fetch the full summary once.
+     * Clients that are too far behind get the full summary instead.
+     */
+    public SummaryDelta getSummarySince(long clientVersion) {
+        var changesSince = clientVersion <= version ? changeLog.since(clientVersion) : null;
+        if (changesSince == null) {
+            var rows = new ArrayList<SummaryRow>(rankedMatches.size());
+            for (var match : rankedMatches) {
+                rows.add(new SummaryRow(match.getId(), match.toSummary()));
+            }
+
+            return SummaryDelta.ofSnapshot(version, Collections.unmodifiableList(rows));
+        }
+
+        return SummaryDelta.ofChanges(version, changesSince);
+    }
+
+    private void snapshotWhenDue() {
+        if (journal.needsSnapshot()) {
+            try {
+                journal.snapshot(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Puts a match back on the board as it was, without any validation or change events.
+     */
+    void restoreMatch(int matchId, int homeTeamId, int awayTeamId, int homeTeamScore, int awayTeamScore) {
+        var match = new Match(matchId,
+                new Team(homeTeamId, teams.nameOf(homeTeamId), homeTeamScore),
+                new Team(awayTeamId, teams.nameOf(awayTeamId), awayTeamScore));
+
+        matchesById.put(matchId, match);
+        matchesByTeamId[homeTeamId] = match;
+        matchesByTeamId[awayTeamId] = match;
+        rank(match);
+        summary = null;
+        filteredSummaries.clear();
+        Arrays.fill(encodedSummaries, null);
+    }
+
+    void restoreTags(int matchId, Set<String> tags) {
+        var match = getMatch(matchId);
+        unrank(match);
+        match.setTags(tags);
+        rank(match);
+        filteredSummaries.clear();
+    }
+
+    /**
+     * Puts back how far the sequenced updates of a match got, see {@link #tryUpdateMatch(int, long, int, int)}.
+     */
+    void restoreSequence(int matchId, long lastSequence) {
+        getMatch(matchId).setLastSequence(lastSequence);
+    }
+
+    void restoreBufferedUpdate(int matchId, long sequence, int homeTeamScore, int awayTeamScore) {
+        getMatch(matchId).getOrCreateReorderWindow(REORDER_WINDOW).put(sequence, homeTeamScore, awayTeamScore);
+    }
+
+    void restoreCounters(long restoredVersion, int restoredNextMatchId) {
+        version = restoredVersion;
+        nextMatchId = restoredNextMatchId;
+        changeLog.clear(restoredVersion);
+    }
+
+    TeamRegistry getTeams() {
+        return teams;
+    }
 
-        matches.remove(matchToRemove);
+    Collection<Match> getMatches() {
+        return Collections.unmodifiableCollection(rankedMatches);
     }
 
+    int getNextMatchId() {
+        return nextMatchId;
+    }
+
+    private void startNewVersion() {
+        summary = null;
+        filteredSummaries.clear();
+        Arrays.fill(encodedSummaries, null);
+        version++;
+    }
+
+    private void rank(Match match) {
+        rankedMatches.add(match);
+        if (match.getRecentGoals() > 0) {
+            matchesByMomentum.add(match);
+        }
+        for (var tag : match.getTags()) {
+            rankedMatchesByTag.computeIfAbsent(tag, ignored -> new TreeSet<>(SUMMARY_ORDER)).add(match);
+        }
+    }
+
+    private void unrank(Match match) {
+        rankedMatches.remove(match);
+        if (match.getRecentGoals() > 0) {
+            matchesByMomentum.remove(match);
+        }
+        for (var tag : match.getTags()) {
+            var taggedMatches = rankedMatchesByTag.get(tag);
+            taggedMatches.remove(match);
+            if (taggedMatches.isEmpty()) {
+                rankedMatchesByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Adds goals to the goal times of a match that is out of the rankings, or takes them back for a negative count.
+     */
+    private void recordGoals(Match match, int goals, long now) {
+        if (!tracksMomentum || goals == 0) {
+            return;
+        }
+
+        var goalTimes = match.getOrCreateGoalTimes(GOAL_TIMES_PER_MATCH);
+        if (goals < 0) {
+            goalTimes.removeLatest(-goals);
+        }
+        for (int goal = 0; goal < goals; goal++) {
+            goalTimes.add(now);
+        }
+        match.setRecentGoals(goalTimes.countSince(now - MOMENTUM_WINDOW.toMillis()));
+
+        // A match waits on the wheel for its oldest recent goal only, the next one is scheduled when that one expires
+        if (goals > 0 && !match.isGoalExpiryScheduled()) {
+            goalExpiries.schedule(match, now + MOMENTUM_WINDOW.toMillis());
+            match.setGoalExpiryScheduled(true);
+        }
+    }
+
+    /**
+     * Starts keeping the times of goals for {@link #getHotMatches(int)}, for the goals scored from now on.
+     * Boards that never show hot matches don't call this, and keep the update path free of any momentum work.
+     */
+    public void trackMomentum() {
+        tracksMomentum = true;
+    }
+
+    /**
+     * The matches with the most goals within the last {@link #MOMENTUM_WINDOW}, for a "hot matches" list.
+     * <p>
+     * Matches are kept ranked by their recent goals as goals are scored, and a timer wheel takes goals out of the
+     * window as they get older, so neither a goal nor this call ever has to look at matches that didn't change.
+     * Matches without any recent goals are left out.
+     *
+     * @throws IllegalStateException if the board doesn't {@link #trackMomentum() track momentum}
+     */
+    public List<MatchMomentum> getHotMatches(int numberOfMatches) {
+        if (numberOfMatches < 0) {
+            throw new IllegalArgumentException(NEGATIVE_SUMMARY_SIZE);
+        }
+        if (!tracksMomentum) {
+            throw new IllegalStateException(MOMENTUM_NOT_TRACKED);
+        }
+
+        expireGoals();
+
+        var hotMatches = new ArrayList<MatchMomentum>(Math.min(numberOfMatches, matchesByMomentum.size()));
+        var iterator = matchesByMomentum.iterator();
+        while (hotMatches.size() < numberOfMatches && iterator.hasNext()) {
+            var match = iterator.next();
+            hotMatches.add(new MatchMomentum(match.toSummary(), match.getRecentGoals()));
+        }
+
+        return Collections.unmodifiableList(hotMatches);
+    }
+
+    /**
+     * Takes the goals that got older than the window out of the momentum ranking, before any match is taken out of
+     * the rankings, so the wheel only ever holds the goals of the last window.
+     */
+    private long expireGoals() {
+        if (!tracksMomentum) {
+            // No goal times are recorded, so the time isn't needed either
+            return 0;
+        }
+
+        var now = clock.millis();
+        goalExpiries.advanceTo(now, match -> refreshMomentum(match, now));
+
+        return now;
+    }
+
+    private void refreshMomentum(Match match, long now) {
+        match.setGoalExpiryScheduled(false);
+        // Finished matches are no longer ranked
+        if (matchesById.get(match.getId()) != match) {
+            return;
+        }
+
+        var since = now - MOMENTUM_WINDOW.toMillis();
+        var goalTimes = match.getGoalTimes();
+        var recentGoals = goalTimes.countSince(since);
+        if (recentGoals != match.getRecentGoals()) {
+            matchesByMomentum.remove(match);
+            match.setRecentGoals(recentGoals);
+            if (recentGoals > 0) {
+                matchesByMomentum.add(match);
+            }
+        }
+
+        if (recentGoals > 0) {
+            goalExpiries.schedule(match, goalTimes.firstSince(since) + MOMENTUM_WINDOW.toMillis());
+            match.setGoalExpiryScheduled(true);
+        }
+    }
+
+    private void recordScoreChange(Match match, Match matchAboveBefore) {
+        var moved = rankedMatches.lower(match) != matchAboveBefore;
+        recordChange(moved ? RANK_MOVED : SCORE_CHANGED, match);
+    }
+
+    private void recordChange(ScoreBoardEvent.Type type, Match match) {
+        // Only subscribers get event objects, the change log keeps its own copy in primitive arrays
+        changeLog.add(version, type, match);
+        if (changes.hasSubscribers()) {
+            changes.publish(new ScoreBoardEvent(version, type, match.getId(), match.toSummary()));
+        }
+    }
+
+    @Override
     public List<MatchSummary> getSummary() {
-        return matches.stream()
-                .sorted(Comparator.comparingInt(Match::getTotalScore).reversed()
-                        .thenComparing(Comparator.comparingInt(Match::getId).reversed()))
-                .map(match -> new MatchSummary(
-                        match.getHomeTeam().getName(),
-                        match.getHomeTeam().getScore(),
-                        match.getAwayTeam().getName(),
-                        match.getAwayTeam().getScore()))
-                .toList();
+        var startTime = metrics.startTime();
+        // Built at most once between mutations, however often it's polled
+        if (summary == null) {
+            summary = getTop(rankedMatches.size());
+        }
+
+        metrics.succeeded(GET_SUMMARY, -1, startTime);
+        return summary;
+    }
+
+    public List<MatchSummary> getTop(int numberOfMatches) {
+        return topOf(rankedMatches, numberOfMatches);
+    }
+
+    /**
+     * The part of the summary the filter selects, in the summary order.
+     * Like the full summary, it's built at most once between mutations.
+     */
+    public List<MatchSummary> getSummary(SummaryFilter filter) {
+        var filtered = filteredSummaries.get(filter);
+        if (filtered == null) {
+            filtered = getTop(filter, Integer.MAX_VALUE);
+            filteredSummaries.put(filter, filtered);
+            // Clients can ask for any number of different filters, only the recent ones are kept
+            if (filteredSummaries.size() > FILTERED_SUMMARY_CACHE_SIZE) {
+                filteredSummaries.remove(filteredSummaries.keySet().iterator().next());
+            }
+        }
+
+        return filtered;
+    }
+
+    /**
+     * The first matches of {@link #getSummary(SummaryFilter)}.
+     * The matches of every tag are kept ranked as they change, so the top of a tag costs as much as the matches
+     * it returns, however many other matches there are.
+     * A team plays at most one match at a time, so filtering by teams only ever ranks the matches of those teams.
+     */
+    public List<MatchSummary> getTop(SummaryFilter filter, int numberOfMatches) {
+        return switch (filter) {
+            case SummaryFilter.Tagged tagged -> topOf(
+                    rankedMatchesByTag.getOrDefault(tagged.tag(), Collections.emptyNavigableSet()), numberOfMatches);
+            case SummaryFilter.AnyOfTeams anyOfTeams -> {
+                var teamMatches = new TreeSet<>(SUMMARY_ORDER);
+                for (var teamName : anyOfTeams.teamNames()) {
+                    var teamId = teams.idOf(teamName);
+                    if (teams.contains(teamId) && matchesByTeamId[teamId] != null) {
+                        teamMatches.add(matchesByTeamId[teamId]);
+                    }
+                }
+                yield topOf(teamMatches, numberOfMatches);
+            }
+        };
     }
 
+    private static List<MatchSummary> topOf(NavigableSet<Match> matches, int numberOfMatches) {
+        if (numberOfMatches < 0) {
+            throw new IllegalArgumentException(NEGATIVE_SUMMARY_SIZE);
+        }
+
+        var size = Math.min(numberOfMatches, matches.size());
+        if (size >= PARALLEL_THRESHOLD) {
+            // The ranking is already sorted, so only the rows are built in parallel, each in its own slot
+            var topMatches = new Match[size];
+            var iterator = matches.iterator();
+            for (int i = 0; i < size; i++) {
+                topMatches[i] = iterator.next();
+            }
+            var rows = new MatchSummary[size];
+            Arrays.parallelSetAll(rows, i -> topMatches[i].toSummary());
+
+            return Collections.unmodifiableList(Arrays.asList(rows));
+        }
+
+        var summary = new ArrayList<MatchSummary>(size);
+        var iterator = matches.iterator();
+        while (summary.size() < numberOfMatches && iterator.hasNext()) {
+            summary.add(iterator.next().toSummary());
+        }
+
+        return Collections.unmodifiableList(summary);
+    }
+
+    /**
+     * The summary encoded in the given format, ready to be written to a channel as it is.
+     * Every match keeps its own encoded row until its scores change, so after a goal only that row is encoded again
+     * and the rest are copied over. The returned buffer is read-only and never changes, later mutations give a new one.
+     */
+    public ByteBuffer getEncodedSummary(SummaryFormat format) {
+        var encodedSummary = encodedSummaries[format.ordinal()];
+        if (encodedSummary == null) {
+            var rows = new byte[rankedMatches.size()][];
+            var i = 0;
+            for (var match : rankedMatches) {
+                rows[i++] = match.getEncodedRow(format);
+            }
+
+            encodedSummary = SummaryEncoding.encodeSummary(format, rows);
+            encodedSummaries[format.ordinal()] = encodedSummary;
+        }
+
+        // A view of its own, so readers don't move each other's position
+        return encodedSummary.duplicate();
+    }
+
+    @Override
     public int getCurrentGoalsForTeam(String teamName) {
-        return matches.stream()
-                .flatMap(match -> Stream.of(match.getHomeTeam(), match.getAwayTeam()))
-                .filter(team -> team.getName().equals(teamName))
-                .map(Team::getScore)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH));
+        return getCurrentGoals(teams.idOf(teamName));
+    }
+
+    public int getCurrentGoals(int teamId) {
+        var match = teams.contains(teamId) ? matchesByTeamId[teamId] : null;
+        if (match == null) {
+            throw new IllegalArgumentException(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+        }
+
+        return match.getHomeTeam().getId() == teamId
+                ? match.getHomeTeam().getScore()
+                : match.getAwayTeam().getScore();
     }
 }
@@ -0,0 +1,43 @@
+package org.sportradar;
+
+/**
+ * A change to one match on the score board, with the match as it looked right after the change.
+ * The version is the score board version the change was made in.
+ */
+public record ScoreBoardEvent(long version, Type type, int matchId, MatchSummary match) {
+
+    public enum Type {
+        MATCH_STARTED,
+        SCORE_CHANGED,
+        // A score change that also moved the match in the summary
+        RANK_MOVED,
+        // A score that was set back or otherwise corrected, which a client can't tell apart from goals by itself
+        SCORE_CORRECTED,
+        MATCH_FINISHED
+    }
+
+    /**
+     * Merges two events for the same match into the single event a subscriber that missed both would need,
+     * or null if they cancel each other out, i.e. the match was both started and finished.
+     */
+    static ScoreBoardEvent coalesce(ScoreBoardEvent previous, ScoreBoardEvent next) {
+        if (previous.type() == Type.MATCH_STARTED) {
+            return next.type() == Type.MATCH_FINISHED ? null : next.withType(Type.MATCH_STARTED);
+        }
+
+        if (previous.type() == Type.RANK_MOVED && next.type() == Type.SCORE_CHANGED) {
+            return next.withType(Type.RANK_MOVED);
+        }
+
+        // Goals after a correction don't make the correction any less of one
+        if (previous.type() == Type.SCORE_CORRECTED && next.type() != Type.MATCH_FINISHED) {
+            return next.withType(Type.SCORE_CORRECTED);
+        }
+
+        return next;
+    }
+
+    private ScoreBoardEvent withType(Type type) {
+        return new ScoreBoardEvent(version, type, matchId, match);
+    }
+}
@@ -0,0 +1,200 @@
+package org.sportradar;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A local HTTP/JSON API over a thread-safe score board, on the JDK's own HTTP server.
+ * <p>
+ * Every request runs on its own virtual thread, so a spike of slow connections doesn't tie up a thread pool.
+ * The summary is encoded once and the same bytes are served until the board returns a different summary,
+ * which only happens after a mutation, so polling clients cost no serialization at all.
+ * <pre>
+ * POST   /matches               {"homeTeamName": "Mexico", "awayTeamName": "Canada"}  201 {"matchId": 0}
+ * PUT    /matches/{id}          {"homeTeamScore": 0, "awayTeamScore": 1}              204
+ * DELETE /matches/{id}                                                                204
+ * GET    /summary                                                                     200 [{"homeTeamName": ...}]
+ * GET    /teams/{name}/goals                                                          200 {"goals": 1}
+ * </pre>
+ * Broken rules are answered with 400 and {"error": "..."}, a board that was closed under the server with 503, and
+ * anything else that goes wrong with 500, so a client always gets an answer rather than a dropped connection.
+ */
+public class ScoreBoardHttpServer implements AutoCloseable {
+
+    static final String UNKNOWN_RESOURCE = "Unknown resource";
+    static final String METHOD_NOT_ALLOWED = "Method not allowed";
+    static final String INVALID_MATCH_ID = "Match id must be an integer";
+    static final String SCORE_BOARD_UNAVAILABLE = "Score board is unavailable";
+    static final String INTERNAL_ERROR = "Internal server error";
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final LiveScoreBoard scoreBoard;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile SerializedSummary serializedSummary;
+
+    private ScoreBoardHttpServer(LiveScoreBoard scoreBoard, HttpServer server, ExecutorService executor) {
+        this.scoreBoard = scoreBoard;
+        this.server = server;
+        this.executor = executor;
+        this.serializedSummary = new SerializedSummary(null, null);
+    }
+
+    /**
+     * Serves the board on the given address, port 0 picks a free port.
+     * The board is called from many threads at once, so it has to be a thread-safe one like {@link ConcurrentScoreBoard}.
+     */
+    public static ScoreBoardHttpServer start(LiveScoreBoard scoreBoard, InetSocketAddress address) throws IOException {
+        var executor = Executors.newVirtualThreadPerTaskExecutor();
+        var server = HttpServer.create(address, 0);
+        var httpServer = new ScoreBoardHttpServer(scoreBoard, server, executor);
+        server.createContext("/", httpServer::handle);
+        server.setExecutor(executor);
+        server.start();
+
+        return httpServer;
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting connections, and waits for the requests that are already running.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            var method = exchange.getRequestMethod();
+            var path = exchange.getRequestURI().getPath().split("/", -1);
+
+            try {
+                if (path.length == 2 && path[1].equals("summary")) {
+                    requireMethod(method, "GET");
+                    send(exchange, 200, getSerializedSummary().duplicate());
+                } else if (path.length == 2 && path[1].equals("matches")) {
+                    requireMethod(method, "POST");
+                    newMatch(exchange);
+                } else if (path.length == 3 && path[1].equals("matches")) {
+                    matchRequest(exchange, method, parseMatchId(path[2]));
+                } else if (path.length == 4 && path[1].equals("teams") && path[3].equals("goals")) {
+                    requireMethod(method, "GET");
+                    var goals = scoreBoard.getCurrentGoalsForTeam(path[2]);
+                    send(exchange, 200, Json.field("goals", goals));
+                } else {
+                    sendError(exchange, 404, UNKNOWN_RESOURCE);
+                }
+            } catch (MethodNotAllowed e) {
+                sendError(exchange, 405, METHOD_NOT_ALLOWED);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (IllegalStateException | RejectedExecutionException e) {
+                // A closed off-heap board fails its calls, and a closed sharded board's writer threads refuse them
+                sendError(exchange, 503, SCORE_BOARD_UNAVAILABLE);
+            } catch (RuntimeException e) {
+                // Not a message for clients, it may tell more about the server than about their request
+                sendError(exchange, 500, INTERNAL_ERROR);
+            }
+        }
+    }
+
+    private void newMatch(HttpExchange exchange) throws IOException {
+        var fields = Json.parseObject(readBody(exchange));
+        var matchId = scoreBoard.newMatch(
+                Json.stringField(fields, "homeTeamName"),
+                Json.stringField(fields, "awayTeamName"));
+
+        send(exchange, 201, Json.field("matchId", matchId));
+    }
+
+    private void matchRequest(HttpExchange exchange, String method, int matchId) throws IOException {
+        switch (method) {
+            case "PUT" -> {
+                var fields = Json.parseObject(readBody(exchange));
+                scoreBoard.updateMatch(matchId,
+                        Json.intField(fields, "homeTeamScore"),
+                        Json.intField(fields, "awayTeamScore"));
+            }
+            case "DELETE" -> scoreBoard.finishMatch(matchId);
+            default -> throw new MethodNotAllowed();
+        }
+
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    /**
+     * The summary as JSON, serialized again only when the board returns a different summary than last time.
+     */
+    ByteBuffer getSerializedSummary() {
+        var summary = scoreBoard.getSummary();
+        var serialized = serializedSummary;
+        if (serialized.summary() != summary) {
+            serialized = new SerializedSummary(summary, SummaryEncoding.encodeSummary(SummaryFormat.JSON, summary));
+            serializedSummary = serialized;
+        }
+
+        return serialized.json();
+    }
+
+    private static int parseMatchId(String matchId) {
+        try {
+            return Integer.parseInt(matchId);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_MATCH_ID);
+        }
+    }
+
+    private static void requireMethod(String method, String allowedMethod) {
+        if (!method.equals(allowedMethod)) {
+            throw new MethodNotAllowed();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Json.field("error", message));
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        send(exchange, status, ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void send(HttpExchange exchange, int status, ByteBuffer json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, json.remaining());
+        var body = Channels.newChannel(exchange.getResponseBody());
+        while (json.hasRemaining()) {
+            body.write(json);
+        }
+    }
+
+    private record SerializedSummary(List<MatchSummary> summary, ByteBuffer json) {}
+
+    private static final class MethodNotAllowed extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        MethodNotAllowed() {
+            super(METHOD_NOT_ALLOWED, null, false, false);
+        }
+    }
+}
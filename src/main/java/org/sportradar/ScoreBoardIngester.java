@@ -0,0 +1,296 @@
+package org.sportradar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Feeds score updates from many threads into one {@link ScoreBoard}, without any locks around the board.
+ * <p>
+ * Producers claim a slot in a pre-allocated ring buffer, write the update into it and publish it.
+ * A single writer thread owns the board: it takes every published update that is ready in one go and applies
+ * them with {@link ScoreBoard#applyBatch(java.util.Collection)}, so a burst of updates costs one re-ranking per match.
+ * Producers only wait when the ring is full, which bounds both the memory and the latency of the pipeline.
+ * <p>
+ * The board must not be used directly once it's given to an ingester; other operations on it are run on the writer
+ * thread through {@link #execute(Function)}.
+ * Futures are completed on the writer thread, so callers should use the async variants for any heavier follow-up.
+ */
+public class ScoreBoardIngester implements AutoCloseable {
+
+    static final String INGESTER_IS_CLOSED = "Score board ingester is closed";
+    static final String CAPACITY_NOT_A_POWER_OF_TWO = "Ring buffer capacity must be a positive power of two";
+    static final int DEFAULT_CAPACITY = 1 << 16;
+    static final int MAX_BATCH_SIZE = 4096;
+
+    private static final int SPINS_BEFORE_PARKING = 1000;
+    private static final long PARK_NANOS = 100_000;
+    private static final long OPEN = Long.MAX_VALUE;
+
+    private final ScoreBoard scoreBoard;
+    private final int mask;
+    // The slots of the ring, indexed by sequence & mask
+    private final int[] matchIds;
+    private final int[] homeTeamScores;
+    private final int[] awayTeamScores;
+    // The future of every slot, see resultAt
+    private final Object[] results;
+    // The sequence last published to every slot, which makes the plain slot writes visible to the writer
+    private final AtomicLongArray published;
+    private final AtomicLong claimed;
+    // Every sequence below it has been applied and its slot can be reused
+    private final AtomicLong applied;
+    private final Queue<Task> tasks;
+    private final Thread writer;
+    private volatile boolean writerIsParked;
+    private volatile boolean closed;
+    private volatile boolean writerIsStopping;
+    // Sequences from here on are never applied, OPEN until the writer has stopped taking updates
+    private volatile long endSequence;
+
+    public ScoreBoardIngester(ScoreBoard scoreBoard) {
+        this(scoreBoard, DEFAULT_CAPACITY);
+    }
+
+    public ScoreBoardIngester(ScoreBoard scoreBoard, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(CAPACITY_NOT_A_POWER_OF_TWO);
+        }
+
+        this.scoreBoard = scoreBoard;
+        mask = capacity - 1;
+        matchIds = new int[capacity];
+        homeTeamScores = new int[capacity];
+        awayTeamScores = new int[capacity];
+        results = new Object[capacity];
+        published = new AtomicLongArray(capacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            published.set(slot, -1);
+        }
+        claimed = new AtomicLong();
+        applied = new AtomicLong();
+        tasks = new ConcurrentLinkedQueue<>();
+        endSequence = OPEN;
+        writer = Thread.ofPlatform().name("score-board-writer").daemon().start(this::run);
+    }
+
+    /**
+     * Queues a score update, with the same rules as {@link ScoreBoard#updateMatch(int, int, int)}.
+     * The result tells whether it was applied or why it was rejected.
+     */
+    public CompletableFuture<ScoreEventResult> updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        if (closed) {
+            throw new IllegalStateException(INGESTER_IS_CLOSED);
+        }
+
+        var result = new CompletableFuture<ScoreEventResult>();
+        var sequence = claimed.getAndIncrement();
+        if (!awaitFreeSlot(sequence)) {
+            result.completeExceptionally(new IllegalStateException(INGESTER_IS_CLOSED));
+            return result;
+        }
+
+        var slot = (int) sequence & mask;
+        matchIds[slot] = matchId;
+        homeTeamScores[slot] = newHomeTeamScore;
+        awayTeamScores[slot] = newAwayTeamScore;
+        results[slot] = result;
+        published.set(slot, sequence);
+
+        if (writerIsParked) {
+            LockSupport.unpark(writer);
+        }
+        if (writerIsStopping && sequence >= awaitEndSequence()) {
+            // Claimed after the writer took its last updates, so nothing else will complete it
+            result.completeExceptionally(new IllegalStateException(INGESTER_IS_CLOSED));
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the operation on the writer thread, after every update this thread queued before it.
+     */
+    public <T> CompletableFuture<T> execute(Function<ScoreBoard, T> operation) {
+        if (closed) {
+            throw new IllegalStateException(INGESTER_IS_CLOSED);
+        }
+
+        var result = new CompletableFuture<T>();
+        var task = new Task(claimed.get(), () -> {
+            try {
+                result.complete(operation.apply(scoreBoard));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        tasks.add(task);
+
+        if (writerIsParked) {
+            LockSupport.unpark(writer);
+        }
+        // Either the writer still takes the task or it's removed here, never both
+        if (writerIsStopping && tasks.remove(task)) {
+            result.completeExceptionally(new IllegalStateException(INGESTER_IS_CLOSED));
+        }
+
+        return result;
+    }
+
+    /**
+     * Stops taking new updates, and waits until the writer has applied the ones that were already queued.
+     * An interrupted caller stops waiting with its interrupt flag set, while the writer still applies them.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean awaitFreeSlot(long sequence) {
+        var spins = 0;
+        while (sequence - applied.get() > mask) {
+            if (writerIsStopping && sequence >= awaitEndSequence()) {
+                return false;
+            }
+            spins = idle(spins);
+        }
+
+        return true;
+    }
+
+    private long awaitEndSequence() {
+        long end;
+        while ((end = endSequence) == OPEN) {
+            Thread.onSpinWait();
+        }
+
+        return end;
+    }
+
+    private void run() {
+        var next = 0L;
+        var spins = 0;
+        while (!closed) {
+            var taken = applyPublished(next, Long.MAX_VALUE);
+            next += taken;
+            var ranTasks = runTasks(next);
+            next = applied.get();
+
+            if (taken > 0 || ranTasks) {
+                spins = 0;
+            } else if (spins < SPINS_BEFORE_PARKING) {
+                spins = idle(spins);
+            } else {
+                writerIsParked = true;
+                // Anything published after the flag was set unparks the writer, so only this check can miss it
+                if (!isPublished(next) && tasks.isEmpty() && !closed) {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+                writerIsParked = false;
+            }
+        }
+
+        // Producers that claim a sequence from here on see the flag and wait for the end sequence
+        writerIsStopping = true;
+        var end = claimed.get();
+        endSequence = end;
+        while (next < end) {
+            next += applyPublished(next, end);
+        }
+        runTasks(next);
+    }
+
+    private static int idle(int spins) {
+        if (spins < SPINS_BEFORE_PARKING) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+
+        Thread.yield();
+        return spins;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * Applies the updates that are published from the given sequence on, as one batch.
+     */
+    private int applyPublished(long first, long end) {
+        var count = 0;
+        while (count < MAX_BATCH_SIZE && first + count < end && isPublished(first + count)) {
+            count++;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        var events = new ArrayList<ScoreEvent>(count);
+        for (int i = 0; i < count; i++) {
+            var slot = (int) (first + i) & mask;
+            events.add(new ScoreEvent(matchIds[slot], homeTeamScores[slot], awayTeamScores[slot]));
+        }
+
+        List<ScoreEventResult> batchResults = null;
+        RuntimeException failure = null;
+        try {
+            batchResults = scoreBoard.applyBatch(events);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        for (int i = 0; i < count; i++) {
+            var slot = (int) (first + i) & mask;
+            var result = resultAt(slot);
+            results[slot] = null;
+            if (failure == null) {
+                result.complete(batchResults.get(i));
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+        applied.set(first + count);
+
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<ScoreEventResult> resultAt(int slot) {
+        // Only updateMatch stores into the slots, and only futures of this type
+        return (CompletableFuture<ScoreEventResult>) results[slot];
+    }
+
+    /**
+     * Runs the queued tasks, each after the updates that were claimed before it was queued.
+     */
+    private boolean runTasks(long next) {
+        var ranTasks = false;
+        Task task;
+        while ((task = tasks.poll()) != null) {
+            // Once the writer is stopping, the updates from the end sequence on are never applied
+            var until = Math.min(task.after(), endSequence);
+            while (next < until) {
+                next += applyPublished(next, until);
+            }
+            task.operation().run();
+            ranTasks = true;
+        }
+
+        return ranTasks;
+    }
+
+    private record Task(long after, Runnable operation) {}
+}
@@ -0,0 +1,603 @@
+package org.sportradar;
+
+import java.io.*;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Append-only journal of every change to a score board, in a memory-mapped file, plus periodic snapshots.
+ * <p>
+ * Records are written to the mapped file as they happen, which survives a crash of the process, and the file is
+ * forced to disk once per group of records rather than once per record.
+ * After a given number of records, the whole board is written to a snapshot and the journal starts over, so recovery
+ * never has to replay more than that many records.
+ */
+class ScoreBoardJournal implements Closeable {
+
+    static final String JOURNAL_FILE = "scoreboard.journal";
+    static final String SNAPSHOT_FILE = "scoreboard.snapshot";
+    static final String CORRUPT_JOURNAL = "Journal does not match the recovered score board";
+    static final String RECORD_TOO_LARGE = "Too large for a journal record";
+    static final int SNAPSHOT_INTERVAL = 100_000;
+    static final int RECORDS_PER_FORCE = 256;
+    static final int EVENTS_PER_BATCH_RECORD = 4096;
+
+    // Records never span two chunks, the rest of a chunk that can't fit the next record is skipped
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int MAGIC = 0x53424a31;
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    // The largest payload that fits in a chunk after the header, with the record type and the end marker after it
+    static final int MAX_PAYLOAD_SIZE = CHUNK_SIZE - HEADER_SIZE - 2;
+
+    // The record type is written last, so a record that was cut off reads as the end of the journal
+    private static final byte END = 0;
+    private static final byte TEAM_REGISTERED = 1;
+    private static final byte MATCH_STARTED = 2;
+    private static final byte SCORE_UPDATED = 3;
+    private static final byte MATCH_FINISHED = 4;
+    private static final byte BATCH_APPLIED = 5;
+    private static final byte CHUNK_END = 6;
+    private static final byte SEQUENCED_UPDATE = 7;
+    private static final byte SCORE_CORRECTED = 8;
+    private static final byte TAGGED_MATCH_STARTED = 9;
+    private static final byte MATCH_RESYNCED = 10;
+    private static final int SCORE_EVENT_SIZE = 3 * Integer.BYTES;
+
+    private final Path directory;
+    private final int snapshotInterval;
+    private FileChannel channel;
+    private MappedByteBuffer chunk;
+    private long chunkIndex;
+    private long generation;
+    private int recordsSinceSnapshot;
+    private int recordsSinceForce;
+
+    private ScoreBoardJournal(Path directory, int snapshotInterval) {
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Restores the board from the snapshot and journal in the directory, if there are any,
+     * and returns the journal that the board's changes should be appended to from now on.
+     */
+    static ScoreBoardJournal open(Path directory, int snapshotInterval, ScoreBoard scoreBoard) throws IOException {
+        Files.createDirectories(directory);
+        var journal = new ScoreBoardJournal(directory, snapshotInterval);
+        journal.generation = readSnapshot(directory.resolve(SNAPSHOT_FILE), scoreBoard);
+        journal.channel = FileChannel.open(directory.resolve(JOURNAL_FILE), CREATE, READ, WRITE);
+
+        try {
+            journal.mapChunk(0);
+
+            // A journal from an older generation is already part of the snapshot
+            var header = journal.chunk.duplicate().order(ByteOrder.BIG_ENDIAN);
+            if (header.getInt() == MAGIC && header.getLong() == journal.generation) {
+                journal.replay(scoreBoard);
+            } else {
+                journal.startGeneration(journal.generation);
+            }
+        } catch (IOException e) {
+            journal.channel.close();
+            throw e;
+        }
+
+        return journal;
+    }
+
+    /**
+     * Whether the team name fits in a record, which the board checks before it registers the team.
+     */
+    static boolean fitsTeamName(String teamName) {
+        return fits(Integer.BYTES, teamName);
+    }
+
+    /**
+     * Whether the tags fit in the record of a new match, which the board checks before it starts the match.
+     */
+    static boolean fitsTags(Set<String> tags) {
+        // A char takes at most 3 bytes in UTF-8, so the usual few short tags fit without encoding them
+        long maxSize = 4 * Integer.BYTES;
+        for (var tag : tags) {
+            maxSize += Integer.BYTES + 3L * tag.length();
+        }
+        if (maxSize <= MAX_PAYLOAD_SIZE) {
+            return true;
+        }
+
+        long size = 4 * Integer.BYTES;
+        for (var tag : tags) {
+            size += Integer.BYTES + tag.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size <= MAX_PAYLOAD_SIZE;
+    }
+
+    /**
+     * Whether the reason fits in the record of a score correction, which the board checks before it corrects the score.
+     */
+    static boolean fitsCorrectionReason(String reason) {
+        return fits(4 * Integer.BYTES, reason);
+    }
+
+    private static boolean fits(int fixedSize, String text) {
+        return fixedSize + 3L * text.length() <= MAX_PAYLOAD_SIZE
+                || fixedSize + text.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_SIZE;
+    }
+
+    void teamRegistered(String teamName) {
+        var name = teamName.getBytes(StandardCharsets.UTF_8);
+        var position = reserve(Integer.BYTES + name.length);
+        chunk.putInt(position + 1, name.length);
+        chunk.put(position + 1 + Integer.BYTES, name);
+        commit(position, TEAM_REGISTERED, 1 + Integer.BYTES + name.length);
+    }
+
+    void matchStarted(Match match) {
+        if (!match.getTags().isEmpty()) {
+            taggedMatchStarted(match);
+            return;
+        }
+
+        var position = reserve(3 * Integer.BYTES);
+        chunk.putInt(position + 1, match.getId());
+        chunk.putInt(position + 5, match.getHomeTeam().getId());
+        chunk.putInt(position + 9, match.getAwayTeam().getId());
+        commit(position, MATCH_STARTED, 1 + 3 * Integer.BYTES);
+    }
+
+    private void taggedMatchStarted(Match match) {
+        var tags = match.getTags().stream().map(tag -> tag.getBytes(StandardCharsets.UTF_8)).toList();
+        var size = 4 * Integer.BYTES + tags.stream().mapToInt(tag -> Integer.BYTES + tag.length).sum();
+        var position = reserve(size);
+        chunk.putInt(position + 1, match.getId());
+        chunk.putInt(position + 5, match.getHomeTeam().getId());
+        chunk.putInt(position + 9, match.getAwayTeam().getId());
+        chunk.putInt(position + 13, tags.size());
+        var tagPosition = position + 17;
+        for (var tag : tags) {
+            chunk.putInt(tagPosition, tag.length);
+            chunk.put(tagPosition + Integer.BYTES, tag);
+            tagPosition += Integer.BYTES + tag.length;
+        }
+        commit(position, TAGGED_MATCH_STARTED, 1 + size);
+    }
+
+    void scoreUpdated(int matchId, int homeTeamScore, int awayTeamScore) {
+        var position = reserve(3 * Integer.BYTES);
+        chunk.putInt(position + 1, matchId);
+        chunk.putInt(position + 5, homeTeamScore);
+        chunk.putInt(position + 9, awayTeamScore);
+        commit(position, SCORE_UPDATED, 1 + 3 * Integer.BYTES);
+    }
+
+    void sequencedUpdate(int matchId, long sequence, int homeTeamScore, int awayTeamScore) {
+        var position = reserve(3 * Integer.BYTES + Long.BYTES);
+        chunk.putInt(position + 1, matchId);
+        chunk.putLong(position + 5, sequence);
+        chunk.putInt(position + 13, homeTeamScore);
+        chunk.putInt(position + 17, awayTeamScore);
+        commit(position, SEQUENCED_UPDATE, 1 + 3 * Integer.BYTES + Long.BYTES);
+    }
+
+    void matchResynced(int matchId, long sequence, int homeTeamScore, int awayTeamScore) {
+        var position = reserve(3 * Integer.BYTES + Long.BYTES);
+        chunk.putInt(position + 1, matchId);
+        chunk.putLong(position + 5, sequence);
+        chunk.putInt(position + 13, homeTeamScore);
+        chunk.putInt(position + 17, awayTeamScore);
+        commit(position, MATCH_RESYNCED, 1 + 3 * Integer.BYTES + Long.BYTES);
+    }
+
+    void scoreCorrected(int matchId, int homeTeamScore, int awayTeamScore, String reason) {
+        var reasonBytes = reason.getBytes(StandardCharsets.UTF_8);
+        var position = reserve(4 * Integer.BYTES + reasonBytes.length);
+        chunk.putInt(position + 1, matchId);
+        chunk.putInt(position + 5, homeTeamScore);
+        chunk.putInt(position + 9, awayTeamScore);
+        chunk.putInt(position + 13, reasonBytes.length);
+        chunk.put(position + 17, reasonBytes);
+        commit(position, SCORE_CORRECTED, 1 + 4 * Integer.BYTES + reasonBytes.length);
+    }
+
+    /**
+     * Records the score updates of a batch that were applied, in parts that fit in a chunk.
+     * The last part is flagged, so the batch is replayed as one.
+     */
+    void batchApplied(List<ScoreEvent> appliedEvents) {
+        for (int from = 0; from < appliedEvents.size(); from += EVENTS_PER_BATCH_RECORD) {
+            var part = appliedEvents.subList(from, Math.min(from + EVENTS_PER_BATCH_RECORD, appliedEvents.size()));
+            var last = from + part.size() == appliedEvents.size();
+
+            var position = reserve(Integer.BYTES + 1 + part.size() * SCORE_EVENT_SIZE);
+            chunk.putInt(position + 1, part.size());
+            chunk.put(position + 5, (byte) (last ? 1 : 0));
+            var eventPosition = position + 6;
+            for (var event : part) {
+                chunk.putInt(eventPosition, event.matchId());
+                chunk.putInt(eventPosition + 4, event.homeTeamScore());
+                chunk.putInt(eventPosition + 8, event.awayTeamScore());
+                eventPosition += SCORE_EVENT_SIZE;
+            }
+            commit(position, BATCH_APPLIED, eventPosition - position);
+        }
+    }
+
+    void matchFinished(int matchId, long finishedAt) {
+        var position = reserve(Integer.BYTES + Long.BYTES);
+        chunk.putInt(position + 1, matchId);
+        chunk.putLong(position + 5, finishedAt);
+        commit(position, MATCH_FINISHED, 1 + Integer.BYTES + Long.BYTES);
+    }
+
+    boolean needsSnapshot() {
+        return recordsSinceSnapshot >= snapshotInterval;
+    }
+
+    /**
+     * Writes the whole board to a new snapshot and starts an empty journal on top of it.
+     */
+    void snapshot(ScoreBoard scoreBoard) throws IOException {
+        var nextGeneration = generation + 1;
+        var snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        var temporaryFile = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+        try (var snapshotChannel = FileChannel.open(temporaryFile, CREATE, TRUNCATE_EXISTING, WRITE);
+             var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(snapshotChannel)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(nextGeneration);
+            out.writeLong(scoreBoard.getVersion());
+            out.writeInt(scoreBoard.getNextMatchId());
+
+            var teams = scoreBoard.getTeams();
+            out.writeInt(teams.size());
+            for (int teamId = 0; teamId < teams.size(); teamId++) {
+                out.writeUTF(teams.nameOf(teamId));
+            }
+
+            var matches = scoreBoard.getMatches();
+            out.writeInt(matches.size());
+            for (var match : matches) {
+                out.writeInt(match.getId());
+                out.writeInt(match.getHomeTeam().getId());
+                out.writeInt(match.getAwayTeam().getId());
+                out.writeInt(match.getHomeTeam().getScore());
+                out.writeInt(match.getAwayTeam().getScore());
+            }
+
+            var history = scoreBoard.getHistory();
+            out.writeInt(history.size());
+            history.forEachRow((matchId, homeTeamId, awayTeamId, homeTeamScore, awayTeamScore, finishedAt) -> {
+                try {
+                    out.writeInt(matchId);
+                    out.writeInt(homeTeamId);
+                    out.writeInt(awayTeamId);
+                    out.writeInt(homeTeamScore);
+                    out.writeInt(awayTeamScore);
+                    out.writeLong(finishedAt);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            var sequencedMatches = matches.stream().filter(match -> match.getLastSequence() > 0).toList();
+            out.writeInt(sequencedMatches.size());
+            for (var match : sequencedMatches) {
+                out.writeInt(match.getId());
+                out.writeLong(match.getLastSequence());
+                var reorderWindow = match.getReorderWindow();
+                out.writeInt(reorderWindow == null ? 0 : reorderWindow.size());
+                if (reorderWindow != null) {
+                    reorderWindow.forEach((sequence, homeTeamScore, awayTeamScore) -> {
+                        try {
+                            out.writeLong(sequence);
+                            out.writeInt(homeTeamScore);
+                            out.writeInt(awayTeamScore);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            }
+
+            var taggedMatches = matches.stream().filter(match -> !match.getTags().isEmpty()).toList();
+            out.writeInt(taggedMatches.size());
+            for (var match : taggedMatches) {
+                out.writeInt(match.getId());
+                out.writeInt(match.getTags().size());
+                for (var tag : match.getTags()) {
+                    out.writeUTF(tag);
+                }
+            }
+
+            // The whole snapshot is on disk before it can replace the old one
+            out.flush();
+            snapshotChannel.force(true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // And so is the rename, before the journal that is only needed without the new snapshot is emptied
+        forceDirectory();
+
+        // A crash before the new journal is started leaves the old one behind, which recovery then ignores
+        startGeneration(nextGeneration);
+    }
+
+    void force() {
+        chunk.force();
+        recordsSinceForce = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private static long readSnapshot(Path snapshotFile, ScoreBoard scoreBoard) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(CORRUPT_JOURNAL);
+            }
+            var generation = in.readLong();
+            var version = in.readLong();
+            var nextMatchId = in.readInt();
+
+            var teamCount = in.readInt();
+            for (int teamId = 0; teamId < teamCount; teamId++) {
+                scoreBoard.registerTeam(in.readUTF());
+            }
+
+            var matchCount = in.readInt();
+            for (int i = 0; i < matchCount; i++) {
+                scoreBoard.restoreMatch(in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            }
+
+            var historySize = in.readInt();
+            for (int i = 0; i < historySize; i++) {
+                scoreBoard.getHistory().add(
+                        in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readLong());
+            }
+
+            // Snapshots from before sequenced updates end with the history
+            if (hasMore(in)) {
+                var sequencedMatchCount = in.readInt();
+                for (int i = 0; i < sequencedMatchCount; i++) {
+                    var matchId = in.readInt();
+                    scoreBoard.restoreSequence(matchId, in.readLong());
+                    var bufferedUpdates = in.readInt();
+                    for (int j = 0; j < bufferedUpdates; j++) {
+                        scoreBoard.restoreBufferedUpdate(matchId, in.readLong(), in.readInt(), in.readInt());
+                    }
+                }
+            }
+
+            // And snapshots from before tags with the sequences
+            if (hasMore(in)) {
+                var taggedMatchCount = in.readInt();
+                for (int i = 0; i < taggedMatchCount; i++) {
+                    var matchId = in.readInt();
+                    var tags = new HashSet<String>();
+                    var tagCount = in.readInt();
+                    for (int j = 0; j < tagCount; j++) {
+                        tags.add(in.readUTF());
+                    }
+                    scoreBoard.restoreTags(matchId, Set.copyOf(tags));
+                }
+            }
+
+            scoreBoard.restoreCounters(version, nextMatchId);
+
+            return generation;
+        }
+    }
+
+    private static boolean hasMore(DataInputStream in) throws IOException {
+        in.mark(1);
+        var more = in.read() != -1;
+        in.reset();
+
+        return more;
+    }
+
+    private void replay(ScoreBoard scoreBoard) throws IOException {
+        var position = HEADER_SIZE;
+        var pendingBatch = new ArrayList<ScoreEvent>();
+
+        while (true) {
+            var type = chunk.get(position);
+
+            // A batch cut off by a crash was applied before it, so it's replayed with the parts that made it to the journal
+            if (type != BATCH_APPLIED && !pendingBatch.isEmpty()) {
+                applyBatch(scoreBoard, pendingBatch);
+            }
+
+            if (type == END) {
+                break;
+            }
+
+            if (type == CHUNK_END) {
+                mapChunk(chunkIndex + 1);
+                position = 0;
+                continue;
+            }
+
+            try {
+                switch (type) {
+                    case TEAM_REGISTERED -> {
+                        var name = new byte[chunk.getInt(position + 1)];
+                        chunk.get(position + 1 + Integer.BYTES, name);
+                        scoreBoard.registerTeam(new String(name, StandardCharsets.UTF_8));
+                        position += 1 + Integer.BYTES + name.length;
+                    }
+                    case MATCH_STARTED -> {
+                        var matchId = scoreBoard.newMatch(chunk.getInt(position + 5), chunk.getInt(position + 9));
+                        if (matchId != chunk.getInt(position + 1)) {
+                            throw new IOException(CORRUPT_JOURNAL);
+                        }
+                        position += 1 + 3 * Integer.BYTES;
+                    }
+                    case TAGGED_MATCH_STARTED -> {
+                        var tagCount = chunk.getInt(position + 13);
+                        var tags = new HashSet<String>();
+                        var tagPosition = position + 17;
+                        for (int i = 0; i < tagCount; i++) {
+                            var tag = new byte[chunk.getInt(tagPosition)];
+                            chunk.get(tagPosition + Integer.BYTES, tag);
+                            tags.add(new String(tag, StandardCharsets.UTF_8));
+                            tagPosition += Integer.BYTES + tag.length;
+                        }
+                        var matchId = scoreBoard.tryNewMatch(
+                                chunk.getInt(position + 5), chunk.getInt(position + 9), tags);
+                        if (matchId != chunk.getInt(position + 1)) {
+                            throw new IOException(CORRUPT_JOURNAL);
+                        }
+                        position = tagPosition;
+                    }
+                    case SCORE_UPDATED -> {
+                        scoreBoard.updateMatch(
+                                chunk.getInt(position + 1), chunk.getInt(position + 5), chunk.getInt(position + 9));
+                        position += 1 + SCORE_EVENT_SIZE;
+                    }
+                    case BATCH_APPLIED -> {
+                        var events = chunk.getInt(position + 1);
+                        var last = chunk.get(position + 5) == 1;
+                        position += 6;
+                        for (int i = 0; i < events; i++) {
+                            pendingBatch.add(new ScoreEvent(
+                                    chunk.getInt(position), chunk.getInt(position + 4), chunk.getInt(position + 8)));
+                            position += SCORE_EVENT_SIZE;
+                        }
+                        if (last) {
+                            applyBatch(scoreBoard, pendingBatch);
+                        }
+                    }
+                    case SEQUENCED_UPDATE -> {
+                        var result = scoreBoard.tryUpdateMatch(chunk.getInt(position + 1), chunk.getLong(position + 5),
+                                chunk.getInt(position + 13), chunk.getInt(position + 17));
+                        // Broken rules take up their sequence and are journaled like the rest
+                        if (result == ScoreBoardResult.MATCH_DOES_NOT_EXIST
+                                || result == ScoreBoardResult.DUPLICATE_UPDATE
+                                || result == ScoreBoardResult.SEQUENCE_OUT_OF_WINDOW) {
+                            throw new IOException(CORRUPT_JOURNAL);
+                        }
+                        position += 1 + 3 * Integer.BYTES + Long.BYTES;
+                    }
+                    case MATCH_RESYNCED -> {
+                        var result = scoreBoard.tryResyncMatch(chunk.getInt(position + 1), chunk.getLong(position + 5),
+                                chunk.getInt(position + 13), chunk.getInt(position + 17));
+                        if (!result.isOk()) {
+                            throw new IOException(CORRUPT_JOURNAL);
+                        }
+                        position += 1 + 3 * Integer.BYTES + Long.BYTES;
+                    }
+                    case SCORE_CORRECTED -> {
+                        var reason = new byte[chunk.getInt(position + 13)];
+                        chunk.get(position + 17, reason);
+                        scoreBoard.correctScore(chunk.getInt(position + 1), chunk.getInt(position + 5),
+                                chunk.getInt(position + 9), new String(reason, StandardCharsets.UTF_8));
+                        position += 1 + 4 * Integer.BYTES + reason.length;
+                    }
+                    case MATCH_FINISHED -> {
+                        scoreBoard.finishMatch(chunk.getInt(position + 1), chunk.getLong(position + 5));
+                        position += 1 + Integer.BYTES + Long.BYTES;
+                    }
+                    default -> throw new IOException(CORRUPT_JOURNAL);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException(CORRUPT_JOURNAL, e);
+            }
+            recordsSinceSnapshot++;
+        }
+
+        chunk.position(position);
+    }
+
+    private static void applyBatch(ScoreBoard scoreBoard, List<ScoreEvent> batch) throws IOException {
+        if (!scoreBoard.applyBatch(batch).stream().allMatch(ScoreEventResult::isApplied)) {
+            throw new IOException(CORRUPT_JOURNAL);
+        }
+        batch.clear();
+    }
+
+    private void forceDirectory() throws IOException {
+        FileChannel directoryChannel;
+        try {
+            directoryChannel = FileChannel.open(directory, READ);
+        } catch (IOException e) {
+            // Some platforms, like Windows, can't open a directory, and make renames durable by themselves
+            return;
+        }
+
+        try (directoryChannel) {
+            directoryChannel.force(true);
+        }
+    }
+
+    private void startGeneration(long newGeneration) throws IOException {
+        channel.truncate(0);
+        mapChunk(0);
+        generation = newGeneration;
+        recordsSinceSnapshot = 0;
+
+        chunk.putInt(0, MAGIC);
+        chunk.putLong(Integer.BYTES, newGeneration);
+        chunk.position(HEADER_SIZE);
+        force();
+    }
+
+    private void mapChunk(long index) throws IOException {
+        chunkIndex = index;
+        chunk = channel.map(FileChannel.MapMode.READ_WRITE, index * CHUNK_SIZE, CHUNK_SIZE);
+    }
+
+    /**
+     * The position of a new record with the given payload size, in the current chunk or the next one.
+     * The board checks the size before it changes, so a record that fits in no chunk never gets here.
+     */
+    private int reserve(int payloadSize) {
+        // Rejected before the next chunk is mapped, as no chunk has room for it
+        if (payloadSize > MAX_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException(RECORD_TOO_LARGE);
+        }
+
+        // Room for the record and the end marker after it
+        if (chunk.remaining() < 1 + payloadSize + 1) {
+            try {
+                chunk.put(chunk.position(), CHUNK_END);
+                chunk.force();
+                mapChunk(chunkIndex + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return chunk.position();
+    }
+
+    private void commit(int position, byte type, int size) {
+        chunk.put(position, type);
+        chunk.position(position + size);
+        recordsSinceSnapshot++;
+
+        if (++recordsSinceForce >= RECORDS_PER_FORCE) {
+            force();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.sportradar;
+
+/**
+ * Hooks through which a {@link ScoreBoard} reports what it does, see {@link ScoreBoardMetricsRecorder}.
+ * <p>
+ * Every hook is a no-op by default, and {@link #NOOP} doesn't even read the clock, so a board without metrics
+ * only pays for a few calls the JIT inlines away.
+ */
+public interface ScoreBoardMetrics {
+
+    ScoreBoardMetrics NOOP = new ScoreBoardMetrics() {};
+
+    enum Operation {
+        NEW_MATCH,
+        UPDATE_MATCH,
+        FINISH_MATCH,
+        CORRECT_SCORE,
+        RESYNC_MATCH,
+        APPLY_BATCH,
+        BULK_LOAD,
+        GET_SUMMARY
+    }
+
+    /**
+     * The time an operation starts, passed back to {@link #succeeded} or {@link #rejected} when it ends.
+     */
+    default long startTime() {
+        return 0;
+    }
+
+    /**
+     * The operation is done, matchId is -1 for operations that aren't about one match.
+     */
+    default void succeeded(Operation operation, int matchId, long startTime) {
+    }
+
+    /**
+     * The operation broke one of the rules of the board, e.g. {@link ScoreBoardResult#NO_CHANGES_IN_SCORE_UPDATE}.
+     */
+    default void rejected(Operation operation, int matchId, ScoreBoardResult reason, long startTime) {
+    }
+
+    /**
+     * A score event of a batch was rejected, the batch as a whole is still reported as succeeded.
+     */
+    default void rejectedInBatch(int matchId, ScoreBoardResult reason) {
+    }
+
+    default void liveMatches(int liveMatches) {
+    }
+}
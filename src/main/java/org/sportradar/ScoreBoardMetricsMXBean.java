@@ -0,0 +1,26 @@
+package org.sportradar;
+
+import java.util.Map;
+
+/**
+ * The metrics of a score board as they are exported over JMX, see {@link ScoreBoardMetricsRecorder#registerMBean}.
+ */
+public interface ScoreBoardMetricsMXBean {
+
+    int getLiveMatches();
+
+    /**
+     * Succeeded and rejected operations, by operation.
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Rejected operations and batch events, by the {@link ScoreBoardResult} name of the rule they broke.
+     */
+    Map<String, Long> getRejectionCounts();
+
+    /**
+     * Latency percentiles of every operation, keyed like "UPDATE_MATCH p99".
+     */
+    Map<String, Long> getLatencyNanos();
+}
@@ -0,0 +1,165 @@
+package org.sportradar;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.sportradar.ScoreBoardMetrics.Operation.GET_SUMMARY;
+
+/**
+ * Records the metrics of a board: operation counts, latency histograms, rejections per broken rule and the number
+ * of live matches, plus a JFR event for every mutation.
+ * <p>
+ * Rules are named by their {@link ScoreBoardResult} constant rather than their message, so dashboards and label
+ * values stay the same when a message is reworded, and there is a fixed number of them.
+ * <p>
+ * Everything is recorded with lock-free counters, so the recorder can be read from any thread while the board runs,
+ * as a plain-text snapshot or over JMX.
+ */
+public class ScoreBoardMetricsRecorder implements ScoreBoardMetrics, ScoreBoardMetricsMXBean {
+
+    static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<Operation, LongAdder> operationCounts;
+    private final Map<Operation, LatencyHistogram> latencies;
+    private final Map<ScoreBoardResult, LongAdder> rejectionCounts;
+    private volatile int liveMatches;
+
+    public ScoreBoardMetricsRecorder() {
+        operationCounts = new EnumMap<>(Operation.class);
+        latencies = new EnumMap<>(Operation.class);
+        for (var operation : Operation.values()) {
+            operationCounts.put(operation, new LongAdder());
+            latencies.put(operation, new LatencyHistogram());
+        }
+        rejectionCounts = new EnumMap<>(ScoreBoardResult.class);
+        for (var result : ScoreBoardResult.values()) {
+            rejectionCounts.put(result, new LongAdder());
+        }
+    }
+
+    @Override
+    public long startTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void succeeded(Operation operation, int matchId, long startTime) {
+        record(operation, matchId, null, startTime);
+    }
+
+    @Override
+    public void rejected(Operation operation, int matchId, ScoreBoardResult reason, long startTime) {
+        rejectionCounts.get(reason).increment();
+        record(operation, matchId, reason, startTime);
+    }
+
+    @Override
+    public void rejectedInBatch(int matchId, ScoreBoardResult reason) {
+        rejectionCounts.get(reason).increment();
+    }
+
+    @Override
+    public void liveMatches(int liveMatches) {
+        this.liveMatches = liveMatches;
+    }
+
+    private void record(Operation operation, int matchId, ScoreBoardResult rejectionReason, long startTime) {
+        var latency = System.nanoTime() - startTime;
+        operationCounts.get(operation).increment();
+        latencies.get(operation).record(latency);
+
+        if (operation != GET_SUMMARY) {
+            var event = new ScoreBoardMutationEvent();
+            if (event.shouldCommit()) {
+                event.operation = operation.name();
+                event.matchId = matchId;
+                event.rejectionReason = rejectionReason == null ? null : rejectionReason.name();
+                event.latency = latency;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public int getLiveMatches() {
+        return liveMatches;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        var counts = new TreeMap<String, Long>();
+        operationCounts.forEach((operation, count) -> counts.put(operation.name(), count.sum()));
+
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        var counts = new TreeMap<String, Long>();
+        rejectionCounts.forEach((reason, count) -> {
+            var sum = count.sum();
+            if (sum > 0) {
+                counts.put(reason.name(), sum);
+            }
+        });
+
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyNanos() {
+        var percentiles = new TreeMap<String, Long>();
+        latencies.forEach((operation, histogram) -> {
+            for (var percentile : PERCENTILES) {
+                percentiles.put(operation.name() + " p" + format(percentile), histogram.getPercentile(percentile));
+            }
+            percentiles.put(operation.name() + " max", histogram.getMax());
+        });
+
+        return percentiles;
+    }
+
+    LatencyHistogram getLatencyHistogram(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Exports the metrics as an MXBean named org.sportradar:type=ScoreBoard,name=boardName on the platform MBean server.
+     */
+    public ObjectName registerMBean(String boardName) throws JMException {
+        var name = new ObjectName("org.sportradar:type=ScoreBoard,name=" + ObjectName.quote(boardName));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+
+        return name;
+    }
+
+    /**
+     * The current metrics as plain text, one metric per line in the Prometheus text format.
+     */
+    public String snapshot() {
+        var text = new StringBuilder();
+        text.append("scoreboard_live_matches ").append(liveMatches).append('\n');
+        operationCounts.forEach((operation, count) -> text.append("scoreboard_operations_total{operation=\"")
+                .append(operation.name()).append("\"} ").append(count.sum()).append('\n'));
+        getRejectionCounts().forEach((reason, count) -> text.append("scoreboard_rejections_total{reason=\"")
+                .append(reason).append("\"} ").append(count).append('\n'));
+        latencies.forEach((operation, histogram) -> {
+            for (var percentile : PERCENTILES) {
+                text.append("scoreboard_latency_nanos{operation=\"").append(operation.name())
+                        .append("\",quantile=\"").append(percentile / 100).append("\"} ")
+                        .append(histogram.getPercentile(percentile)).append('\n');
+            }
+        });
+
+        return text.toString();
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
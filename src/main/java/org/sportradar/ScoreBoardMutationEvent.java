@@ -0,0 +1,26 @@
+package org.sportradar;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for every mutation of a board with a {@link ScoreBoardMetricsRecorder}, enabled like any other JFR event.
+ */
+@Name("org.sportradar.ScoreBoardMutation")
+@Label("Score Board Mutation")
+@Category("Score Board")
+@StackTrace(false)
+class ScoreBoardMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Match Id")
+    int matchId;
+
+    @Label("Rejection Reason")
+    String rejectionReason;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
@@ -0,0 +1,140 @@
+package org.sportradar;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes score board events to subscribers, each at the pace it requests them.
+ * <p>
+ * Events a subscriber hasn't requested yet are coalesced per match, so a slow subscriber only gets the latest state
+ * of every match it's behind on, and never holds more than one pending event per match.
+ */
+class ScoreBoardPublisher implements Flow.Publisher<ScoreBoardEvent> {
+
+    static final String NON_POSITIVE_REQUEST = "Subscribers must request a positive number of events";
+
+    private final Executor executor;
+    private final CopyOnWriteArrayList<ChangeSubscription> subscriptions;
+
+    ScoreBoardPublisher(Executor executor) {
+        this.executor = executor;
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+        var subscription = new ChangeSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.schedule();
+    }
+
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    void publish(ScoreBoardEvent event) {
+        for (var subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private class ChangeSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super ScoreBoardEvent> subscriber;
+        // Keyed by match id, in the order the matches first got a pending event
+        private final LinkedHashMap<Integer, ScoreBoardEvent> pending;
+        private final AtomicLong demand;
+        // Number of drain requests, the subscriber is only called from one drain at a time
+        private final AtomicInteger work;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private boolean subscribed;
+
+        ChangeSubscription(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.pending = new LinkedHashMap<>();
+            this.demand = new AtomicLong();
+            this.work = new AtomicInteger();
+        }
+
+        void offer(ScoreBoardEvent event) {
+            synchronized (pending) {
+                var previous = pending.get(event.matchId());
+                var next = previous == null ? event : ScoreBoardEvent.coalesce(previous, event);
+                if (next == null) {
+                    pending.remove(event.matchId());
+                } else {
+                    pending.put(event.matchId(), next);
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException(NON_POSITIVE_REQUEST);
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void schedule() {
+            if (work.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+
+            while (!cancelled) {
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ScoreBoardEvent next;
+                synchronized (pending) {
+                    var iterator = pending.values().iterator();
+                    if (!iterator.hasNext()) {
+                        return;
+                    }
+                    next = iterator.next();
+                    iterator.remove();
+                }
+
+                demand.decrementAndGet();
+                subscriber.onNext(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.sportradar;
+
+/**
+ * The outcome of a try-operation of {@link ScoreBoard}, OK or the rule it broke, without throwing anything.
+ * The message of every rejection is the one the throwing operations use for the same rule.
+ */
+public enum ScoreBoardResult {
+
+    OK(null),
+    MATCH_DOES_NOT_EXIST(ScoreBoard.MATCH_DOES_NOT_EXIST),
+    ONE_MATCH_PER_TEAM(ScoreBoard.ONE_MATCH_PER_TEAM),
+    INVALID_TEAM_NAME(Team.INVALID_TEAM_NAME),
+    TEAM_DOES_NOT_EXIST(TeamRegistry.TEAM_DOES_NOT_EXIST),
+    NO_CHANGES_IN_SCORE_UPDATE(Match.NO_CHANGES_IN_SCORE_UPDATE),
+    SCORE_UPDATE_FOR_BOTH_TEAMS(Match.SCORE_UPDATE_FOR_BOTH_TEAMS),
+    UPDATED_SCORE_LOWER(Team.UPDATED_SCORE_LOWER),
+    MAX_ONE_GOAL_INCREASE(Team.MAX_ONE_GOAL_INCREASE),
+    DUPLICATE_UPDATE(ScoreBoard.DUPLICATE_UPDATE),
+    UPDATE_BUFFERED(ScoreBoard.UPDATE_BUFFERED),
+    SEQUENCE_OUT_OF_WINDOW(ScoreBoard.SEQUENCE_OUT_OF_WINDOW),
+    NEGATIVE_SCORE(Match.NEGATIVE_SCORE),
+    MISSING_CORRECTION_REASON(ScoreBoard.MISSING_CORRECTION_REASON),
+    INVALID_TAG(ScoreBoard.INVALID_TAG),
+    TOO_LARGE_TO_JOURNAL(ScoreBoardJournal.RECORD_TOO_LARGE);
+
+    static final String UNKNOWN_NEW_MATCH_CODE = "Not a match id or new match code: ";
+
+    // values() copies the array on every call
+    private static final ScoreBoardResult[] RESULTS = values();
+
+    private final String message;
+
+    ScoreBoardResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isOk() {
+        return this == OK;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * The result of {@link ScoreBoard#tryNewMatch(String, String)}, which returns either a match id or a negative code.
+     */
+    public static ScoreBoardResult ofNewMatch(int matchIdOrCode) {
+        if (matchIdOrCode >= 0) {
+            return OK;
+        }
+        // Compared before negating, which would overflow for Integer.MIN_VALUE
+        if (matchIdOrCode <= -RESULTS.length) {
+            throw new IllegalArgumentException(UNKNOWN_NEW_MATCH_CODE + matchIdOrCode);
+        }
+
+        return RESULTS[-matchIdOrCode];
+    }
+
+    int asNewMatchCode() {
+        return -ordinal();
+    }
+
+    IllegalArgumentException toException() {
+        return new IllegalArgumentException(message);
+    }
+}
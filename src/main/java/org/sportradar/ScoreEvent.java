@@ -0,0 +1,3 @@
+package org.sportradar;
+
+public record ScoreEvent(int matchId, int homeTeamScore, int awayTeamScore) {}
@@ -0,0 +1,11 @@
+package org.sportradar;
+
+/**
+ * The outcome of one {@link ScoreEvent}, with the reason it was rejected or null if it was applied.
+ */
+public record ScoreEventResult(ScoreEvent event, String rejectionReason) {
+
+    public boolean isApplied() {
+        return rejectionReason == null;
+    }
+}
@@ -0,0 +1,302 @@
+package org.sportradar;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+import static org.sportradar.Team.INVALID_TEAM_NAME;
+
+/**
+ * Thread-safe score board that spreads its matches over a number of {@link ScoreBoard} shards.
+ * <p>
+ * Every shard is owned by its own writer thread, which runs all operations on the matches of that shard in order,
+ * so operations on matches in different shards run in parallel without sharing any locks.
+ * Matches of the same competition are kept in the same shard, other matches are spread round robin.
+ * <p>
+ * The "one match per team" rule holds across all shards through a global index of the teams in ongoing matches,
+ * and the summary is the same as on a single board: the sorted summaries of the shards merged into one.
+ * Match ids tell which shard the match is in, and still increase in the order the matches were started.
+ */
+public class ShardedScoreBoard implements LiveScoreBoard, AutoCloseable {
+
+    static final String NON_POSITIVE_SHARD_COUNT = "A sharded score board needs at least one shard";
+    static final String INVALID_COMPETITION = "Competition cannot be null";
+
+    private final Shard[] shards;
+    // The id of the ongoing match of every team, claimed before the match is started on its shard
+    private final Map<String, Integer> matchIdsByTeamName;
+    private final AtomicInteger nextSequence;
+    private volatile MergedSummary mergedSummary;
+
+    public ShardedScoreBoard() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShardedScoreBoard(int numberOfShards) {
+        if (numberOfShards < 1) {
+            throw new IllegalArgumentException(NON_POSITIVE_SHARD_COUNT);
+        }
+
+        var writerThreads = Thread.ofPlatform().name("score-board-shard-", 0).daemon().factory();
+        shards = new Shard[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            shards[i] = new Shard(Executors.newSingleThreadExecutor(writerThreads));
+        }
+        matchIdsByTeamName = new ConcurrentHashMap<>();
+        nextSequence = new AtomicInteger();
+        mergedSummary = new MergedSummary(List.of(), List.of());
+    }
+
+    @Override
+    public int newMatch(String homeTeam, String awayTeam) {
+        return newMatch(homeTeam, awayTeam, sequence -> Math.floorMod(sequence, shards.length));
+    }
+
+    /**
+     * Starts a match in the shard of its competition, so all matches of a competition are updated by the same thread.
+     */
+    public int newMatch(String competition, String homeTeam, String awayTeam) {
+        if (competition == null) {
+            throw new IllegalArgumentException(INVALID_COMPETITION);
+        }
+
+        var shardIndex = Math.floorMod(competition.hashCode(), shards.length);
+
+        return newMatch(homeTeam, awayTeam, sequence -> shardIndex);
+    }
+
+    private int newMatch(String homeTeam, String awayTeam, ShardSelector shardSelector) {
+        if (!Team.isValidName(homeTeam) || !Team.isValidName(awayTeam)) {
+            throw new IllegalArgumentException(INVALID_TEAM_NAME);
+        }
+
+        // The claimed id is only a marker until the match has its real id
+        if (matchIdsByTeamName.putIfAbsent(homeTeam, -1) != null) {
+            throw new IllegalArgumentException(ONE_MATCH_PER_TEAM);
+        }
+        if (matchIdsByTeamName.putIfAbsent(awayTeam, -1) != null) {
+            matchIdsByTeamName.remove(homeTeam);
+            throw new IllegalArgumentException(ONE_MATCH_PER_TEAM);
+        }
+
+        try {
+            var sequence = nextSequence.getAndIncrement();
+            var shardIndex = shardSelector.shardOf(sequence);
+            var matchId = Math.addExact(Math.multiplyExact(sequence, shards.length), shardIndex);
+
+            call(shards[shardIndex], board -> board.newMatch(matchId, homeTeam, awayTeam));
+            matchIdsByTeamName.put(homeTeam, matchId);
+            matchIdsByTeamName.put(awayTeam, matchId);
+
+            return matchId;
+        } catch (RuntimeException e) {
+            matchIdsByTeamName.remove(homeTeam);
+            matchIdsByTeamName.remove(awayTeam);
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+        call(shardOf(matchId), board -> {
+            board.updateMatch(matchId, newHomeTeamScore, newAwayTeamScore);
+            return null;
+        });
+    }
+
+    @Override
+    public void finishMatch(int matchId) {
+        var finishedMatch = call(shardOf(matchId), board -> {
+            var summary = board.getMatch(matchId).toSummary();
+            board.finishMatch(matchId);
+            return summary;
+        });
+
+        matchIdsByTeamName.remove(finishedMatch.homeTeamName(), matchId);
+        matchIdsByTeamName.remove(finishedMatch.awayTeamName(), matchId);
+    }
+
+    @Override
+    public List<MatchSummary> getSummary() {
+        // Every shard copies its ranking on its own thread, all shards at the same time
+        var futures = new ArrayList<CompletableFuture<List<RankedRow>>>(shards.length);
+        for (var shard : shards) {
+            futures.add(submit(shard, board -> shard.rankedRows()));
+        }
+        var shardRows = futures.stream().map(ShardedScoreBoard::join).toList();
+
+        var merged = mergedSummary;
+        if (!merged.isMergeOf(shardRows)) {
+            merged = new MergedSummary(shardRows, merge(shardRows));
+            mergedSummary = merged;
+        }
+
+        return merged.summary();
+    }
+
+    /**
+     * K-way merge of the rankings of the shards, which are each sorted in summary order already.
+     */
+    private static List<MatchSummary> merge(List<List<RankedRow>> shardRows) {
+        var size = shardRows.stream().mapToInt(List::size).sum();
+        var summary = new ArrayList<MatchSummary>(size);
+        var heads = new PriorityQueue<Cursor>(shardRows.size());
+        for (var rows : shardRows) {
+            if (!rows.isEmpty()) {
+                heads.add(new Cursor(rows));
+            }
+        }
+
+        while (!heads.isEmpty()) {
+            var cursor = heads.poll();
+            summary.add(cursor.head().summary());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+
+        return Collections.unmodifiableList(summary);
+    }
+
+    @Override
+    public int getCurrentGoalsForTeam(String teamName) {
+        var matchId = teamName != null ? matchIdsByTeamName.get(teamName) : null;
+        if (matchId == null || matchId < 0) {
+            throw new IllegalArgumentException(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+        }
+
+        return call(shardOf(matchId), board -> board.getCurrentGoalsForTeam(teamName));
+    }
+
+    /**
+     * Stops the writer threads of the shards once they have run the operations that were already started.
+     */
+    @Override
+    public void close() {
+        for (var shard : shards) {
+            shard.writer().shutdown();
+        }
+    }
+
+    private Shard shardOf(int matchId) {
+        if (matchId < 0) {
+            throw new IllegalArgumentException(MATCH_DOES_NOT_EXIST);
+        }
+
+        return shards[matchId % shards.length];
+    }
+
+    private static <T> T call(Shard shard, ShardOperation<T> operation) {
+        return join(submit(shard, operation));
+    }
+
+    private static <T> CompletableFuture<T> submit(Shard shard, ShardOperation<T> operation) {
+        Supplier<T> task = () -> operation.apply(shard.board());
+        return CompletableFuture.supplyAsync(task, shard.writer());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rule violations are thrown to the caller as they would be on a single board
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ShardSelector {
+        int shardOf(int sequence);
+    }
+
+    @FunctionalInterface
+    private interface ShardOperation<T> {
+        T apply(ScoreBoard board);
+    }
+
+    /**
+     * One board with the thread that owns it. Only the writer thread may touch the board or the ranking copy.
+     */
+    private static final class Shard {
+
+        private final ScoreBoard board;
+        private final ExecutorService writer;
+        private List<RankedRow> rankedRows;
+        private long rankedRowsVersion;
+
+        Shard(ExecutorService writer) {
+            // The sharded board has no history of its own, so the shards don't keep theirs
+            this.board = new ScoreBoard(Clock.systemUTC(), writer, ScoreBoardMetrics.NOOP, false);
+            this.writer = writer;
+            this.rankedRows = List.of();
+            this.rankedRowsVersion = board.getVersion();
+        }
+
+        ScoreBoard board() {
+            return board;
+        }
+
+        ExecutorService writer() {
+            return writer;
+        }
+
+        // The same copy until the board changes, so an unchanged shard is recognized by identity
+        List<RankedRow> rankedRows() {
+            if (rankedRowsVersion != board.getVersion()) {
+                rankedRows = board.getMatches().stream().map(RankedRow::of).toList();
+                rankedRowsVersion = board.getVersion();
+            }
+
+            return rankedRows;
+        }
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final List<RankedRow> rows;
+        private int position;
+
+        Cursor(List<RankedRow> rows) {
+            this.rows = rows;
+        }
+
+        RankedRow head() {
+            return rows.get(position);
+        }
+
+        boolean advance() {
+            position++;
+            return position < rows.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return head().compareTo(other.head());
+        }
+    }
+
+    private record MergedSummary(List<List<RankedRow>> shardRows, List<MatchSummary> summary) {
+
+        boolean isMergeOf(List<List<RankedRow>> otherShardRows) {
+            if (shardRows.size() != otherShardRows.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < shardRows.size(); i++) {
+                if (shardRows.get(i) != otherShardRows.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.sportradar;
+
+import java.util.List;
+
+/**
+ * What changed on the score board since a client's version, up to and including {@code version}.
+ * <p>
+ * Either the changes coalesced to one event per match, or when the client is too far behind, the full summary with
+ * the id of every match, so the client can start over from it and apply later changes the same way.
+ * The summary order only depends on the total scores and the match ids, so applying the changes to the previous
+ * summary and sorting it again gives the current summary.
+ */
+public record SummaryDelta(long version, boolean fullSnapshot, List<SummaryRow> summary,
+                           List<ScoreBoardEvent> changes) {
+
+    static SummaryDelta ofChanges(long version, List<ScoreBoardEvent> changes) {
+        return new SummaryDelta(version, false, List.of(), List.copyOf(changes));
+    }
+
+    static SummaryDelta ofSnapshot(long version, List<SummaryRow> summary) {
+        return new SummaryDelta(version, true, summary, List.of());
+    }
+}
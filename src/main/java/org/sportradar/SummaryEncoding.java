@@ -0,0 +1,132 @@
+package org.sportradar;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes summaries straight into bytes, from team names that are encoded once and rows that are encoded once per score.
+ */
+final class SummaryEncoding {
+
+    private static final byte[] HOME_TEAM_NAME = ascii("{\"homeTeamName\":");
+    private static final byte[] HOME_TEAM_SCORE = ascii(",\"homeTeamScore\":");
+    private static final byte[] AWAY_TEAM_NAME = ascii(",\"awayTeamName\":");
+    private static final byte[] AWAY_TEAM_SCORE = ascii(",\"awayTeamScore\":");
+
+    private SummaryEncoding() {
+    }
+
+    /**
+     * The team name as it's written in a row, quoted and escaped for JSON or plain UTF-8 for the binary format.
+     */
+    static byte[] encodeName(SummaryFormat format, String teamName) {
+        return switch (format) {
+            case JSON -> {
+                var json = new StringBuilder(teamName.length() + 2);
+                Json.appendString(json, teamName);
+                yield json.toString().getBytes(StandardCharsets.UTF_8);
+            }
+            case BINARY -> teamName.getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    static byte[] encodeRow(SummaryFormat format, byte[] homeTeamName, int homeTeamScore,
+                            byte[] awayTeamName, int awayTeamScore) {
+        return switch (format) {
+            case JSON -> {
+                var row = ByteBuffer.allocate(HOME_TEAM_NAME.length + homeTeamName.length
+                        + HOME_TEAM_SCORE.length + digits(homeTeamScore)
+                        + AWAY_TEAM_NAME.length + awayTeamName.length
+                        + AWAY_TEAM_SCORE.length + digits(awayTeamScore) + 1);
+                row.put(HOME_TEAM_NAME).put(homeTeamName).put(HOME_TEAM_SCORE);
+                putDigits(row, homeTeamScore);
+                row.put(AWAY_TEAM_NAME).put(awayTeamName).put(AWAY_TEAM_SCORE);
+                putDigits(row, awayTeamScore);
+                yield row.put((byte) '}').array();
+            }
+            case BINARY -> ByteBuffer.allocate(4 * Integer.BYTES + homeTeamName.length + awayTeamName.length)
+                    .putInt(homeTeamName.length).put(homeTeamName).putInt(homeTeamScore)
+                    .putInt(awayTeamName.length).put(awayTeamName).putInt(awayTeamScore)
+                    .array();
+        };
+    }
+
+    /**
+     * Joins encoded rows, in summary order, into one read-only summary.
+     */
+    static ByteBuffer encodeSummary(SummaryFormat format, byte[][] rows) {
+        var size = 0;
+        for (var row : rows) {
+            size += row.length;
+        }
+
+        ByteBuffer summary;
+        switch (format) {
+            case JSON -> {
+                summary = ByteBuffer.allocate(size + Math.max(rows.length - 1, 0) + 2);
+                summary.put((byte) '[');
+                for (int i = 0; i < rows.length; i++) {
+                    if (i > 0) {
+                        summary.put((byte) ',');
+                    }
+                    summary.put(rows[i]);
+                }
+                summary.put((byte) ']');
+            }
+            case BINARY -> {
+                summary = ByteBuffer.allocate(Integer.BYTES + size);
+                summary.putInt(rows.length);
+                for (var row : rows) {
+                    summary.put(row);
+                }
+            }
+            default -> throw new IllegalStateException(format.name());
+        }
+
+        return summary.flip().asReadOnlyBuffer();
+    }
+
+    /**
+     * Encodes a summary that isn't kept by a board, without any cached names or rows.
+     */
+    static ByteBuffer encodeSummary(SummaryFormat format, List<MatchSummary> summary) {
+        var rows = new byte[summary.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            var match = summary.get(i);
+            rows[i] = encodeRow(format,
+                    encodeName(format, match.homeTeamName()), match.homeTeamScore(),
+                    encodeName(format, match.awayTeamName()), match.awayTeamScore());
+        }
+
+        return encodeSummary(format, rows);
+    }
+
+    private static int digits(int value) {
+        var digits = value < 0 ? 2 : 1;
+        for (var rest = Math.abs((long) value); rest >= 10; rest /= 10) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    private static void putDigits(ByteBuffer buffer, int value) {
+        var end = buffer.position() + digits(value);
+        if (value < 0) {
+            buffer.put(buffer.position(), (byte) '-');
+        }
+
+        var rest = Math.abs((long) value);
+        var position = end;
+        do {
+            buffer.put(--position, (byte) ('0' + rest % 10));
+            rest /= 10;
+        } while (rest > 0);
+        buffer.position(end);
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,28 @@
+package org.sportradar;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * A part of the summary, see {@link ScoreBoard#getSummary(SummaryFilter)}.
+ */
+public sealed interface SummaryFilter {
+
+    /**
+     * The matches that were started with the given tag, e.g. a competition or a region.
+     */
+    static SummaryFilter tagged(String tag) {
+        return new Tagged(tag);
+    }
+
+    /**
+     * The matches any of the given teams is playing in.
+     */
+    static SummaryFilter anyOfTeams(String... teamNames) {
+        return new AnyOfTeams(Set.copyOf(Arrays.asList(teamNames)));
+    }
+
+    record Tagged(String tag) implements SummaryFilter {}
+
+    record AnyOfTeams(Set<String> teamNames) implements SummaryFilter {}
+}
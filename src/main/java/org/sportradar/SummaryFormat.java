@@ -0,0 +1,18 @@
+package org.sportradar;
+
+/**
+ * The encodings of the summary that a board keeps ready to be written out, see {@link ScoreBoard#getEncodedSummary}.
+ */
+public enum SummaryFormat {
+
+    /**
+     * A JSON array of {"homeTeamName": ..., "homeTeamScore": ..., "awayTeamName": ..., "awayTeamScore": ...} objects.
+     */
+    JSON,
+
+    /**
+     * Big-endian int number of rows, then per row: int name length, UTF-8 home team name, int home team score,
+     * int name length, UTF-8 away team name and int away team score.
+     */
+    BINARY
+}
@@ -0,0 +1,6 @@
+package org.sportradar;
+
+/**
+ * One match of a summary together with its id, so later events for the match can be applied to it.
+ */
+public record SummaryRow(int matchId, MatchSummary match) {}
@@ -6,35 +6,89 @@ class Team {
     static final String MAX_ONE_GOAL_INCREASE = "A new score can not increase with more than 1 goal";
     static final String INVALID_TEAM_NAME = "Team name cannot be null or empty";
 
+    private final int id;
     private final String name;
     private int score;
+    // Per summary format, encoded the first time the team is written in one
+    private byte[][] encodedNames;
 
     Team(String name) {
-        if (name == null || name.isEmpty()) {
+        this(TeamRegistry.UNKNOWN_TEAM, name);
+    }
+
+    Team(int id, String name) {
+        this(id, name, 0);
+    }
+
+    Team(int id, String name, int score) {
+        if (!isValidName(name)) {
             throw new IllegalArgumentException(INVALID_TEAM_NAME);
         }
 
+        this.id = id;
         this.name = name;
-        this.score = 0;
+        this.score = score;
+    }
+
+    static boolean isValidName(String name) {
+        return name != null && !name.isEmpty();
+    }
+
+    int getId() {
+        return id;
     }
 
     String getName() {
         return name;
     }
 
+    byte[] getEncodedName(SummaryFormat format) {
+        if (encodedNames == null) {
+            encodedNames = new byte[SummaryFormat.values().length][];
+        }
+        if (encodedNames[format.ordinal()] == null) {
+            encodedNames[format.ordinal()] = SummaryEncoding.encodeName(format, name);
+        }
+
+        return encodedNames[format.ordinal()];
+    }
+
     int getScore() {
         return score;
     }
 
     void updateScore(int newScore) {
+        var result = validateScore(newScore);
+        if (!result.isOk()) {
+            throw result.toException();
+        }
+
+        score = newScore;
+    }
+
+    /**
+     * Sets the score without the rules of a live update, for a correction that may also lower it.
+     */
+    void correctScore(int correctedScore) {
+        score = correctedScore;
+    }
+
+    ScoreBoardResult validateScore(int newScore) {
+        return validateScore(score, newScore);
+    }
+
+    /**
+     * The rules for a new score, for boards that keep scores without Team objects.
+     */
+    static ScoreBoardResult validateScore(int score, int newScore) {
         if (newScore < score) {
-            throw new IllegalArgumentException(UPDATED_SCORE_LOWER);
+            return ScoreBoardResult.UPDATED_SCORE_LOWER;
         }
 
         if (newScore - score > 1) {
-            throw new IllegalArgumentException(MAX_ONE_GOAL_INCREASE);
+            return ScoreBoardResult.MAX_ONE_GOAL_INCREASE;
         }
 
-        score = newScore;
+        return ScoreBoardResult.OK;
     }
 }
@@ -0,0 +1,67 @@
+package org.sportradar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.sportradar.Team.INVALID_TEAM_NAME;
+
+/**
+ * Symbol table that gives every team name a compact id the first time it's seen.
+ * Ids are handed out in order from 0, so they can be used directly as array indexes.
+ */
+class TeamRegistry {
+
+    static final String TEAM_DOES_NOT_EXIST = "Team does not exist";
+    // Also the id of a team that was created outside of any registry
+    static final int UNKNOWN_TEAM = -1;
+
+    private final Map<String, Integer> idsByName;
+    private String[] names;
+    private int size;
+
+    TeamRegistry() {
+        idsByName = new HashMap<>();
+        names = new String[16];
+        size = 0;
+    }
+
+    int register(String name) {
+        if (!Team.isValidName(name)) {
+            throw new IllegalArgumentException(INVALID_TEAM_NAME);
+        }
+
+        var id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        idsByName.put(name, size);
+
+        return size++;
+    }
+
+    int idOf(String name) {
+        return idsByName.getOrDefault(name, UNKNOWN_TEAM);
+    }
+
+    String nameOf(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException(TEAM_DOES_NOT_EXIST);
+        }
+
+        return names[id];
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && id < size;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,60 @@
+package org.sportradar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hands out items once their due time has passed, at the cost of the items that are due rather than all items.
+ * <p>
+ * Time is cut into ticks, and every tick has a slot with the items that are due in it. Moving the wheel forward only
+ * visits the slots of the ticks that passed, and at most every slot once. Items that are due more than one turn of
+ * the wheel ahead share a slot with earlier ones and stay in it until their own tick has passed.
+ */
+class TimerWheel<T> {
+
+    private final long tickMillis;
+    // A list rather than an array, which can't have a generic element type
+    private final List<List<Entry<T>>> slots;
+    private final int mask;
+    // Every tick up to and including this one has been handed out
+    private long currentTick;
+
+    TimerWheel(int slotCount, long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        slots = new ArrayList<>(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            slots.add(new ArrayList<>());
+        }
+        mask = slotCount - 1;
+        currentTick = startMillis / tickMillis;
+    }
+
+    void schedule(T item, long dueMillis) {
+        var tick = Math.max(Math.ceilDiv(dueMillis, tickMillis), currentTick + 1);
+        slots.get((int) (tick & mask)).add(new Entry<>(item, tick));
+    }
+
+    /**
+     * Hands every item that is due by now to the consumer.
+     */
+    void advanceTo(long nowMillis, Consumer<T> dueItems) {
+        var nowTick = nowMillis / tickMillis;
+        var ticks = Math.min(nowTick - currentTick, slots.size());
+        for (long tick = currentTick + 1; tick <= currentTick + ticks; tick++) {
+            var slot = slots.get((int) (tick & mask));
+            if (!slot.isEmpty()) {
+                slot.removeIf(entry -> {
+                    if (entry.tick() > nowTick) {
+                        return false;
+                    }
+                    dueItems.accept(entry.item());
+                    return true;
+                });
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+    }
+
+    private record Entry<T>(T item, long tick) {}
+}
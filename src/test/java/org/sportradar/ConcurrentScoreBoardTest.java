@@ -0,0 +1,198 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.Team.INVALID_TEAM_NAME;
+
+class ConcurrentScoreBoardTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+    public static final String TEAM_3_NAME = "Team 3";
+    public static final String TEAM_4_NAME = "Team 4";
+
+    @Test
+    void follows_the_same_rules_as_the_single_threaded_score_board() {
+        var scoreBoard = new ConcurrentScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_2_NAME, TEAM_3_NAME)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ONE_MATCH_PER_TEAM);
+        assertThatThrownBy(() -> scoreBoard.updateMatch(match1Id, 1, 0)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(NO_CHANGES_IN_SCORE_UPDATE);
+
+        assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)).isEqualTo(1);
+        assertThat(scoreBoard.getSummary()).containsExactly(
+                new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0),
+                new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+
+        scoreBoard.finishMatch(match2Id);
+
+        assertThatThrownBy(() -> scoreBoard.finishMatch(match2Id)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(MATCH_DOES_NOT_EXIST);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void team_names_are_validated_like_on_the_single_threaded_score_board() {
+        var scoreBoard = new ConcurrentScoreBoard();
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(null, TEAM_2_NAME)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_1_NAME, null)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+        assertThatThrownBy(() -> scoreBoard.newMatch("", TEAM_2_NAME)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_1_NAME, "")
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+        assertThat(scoreBoard.getSummary()).isEmpty();
+    }
+
+    @Test
+    void readers_share_the_same_snapshot_until_the_next_mutation() {
+        var scoreBoard = new ConcurrentScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var snapshot = scoreBoard.getSummary();
+        assertThat(scoreBoard.getSummary()).isSameAs(snapshot);
+
+        scoreBoard.updateMatch(matchId, 0, 1);
+
+        assertThat(scoreBoard.getSummary())
+                .isNotSameAs(snapshot)
+                .containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 1));
+    }
+
+    @Test
+    void updates_to_different_matches_from_many_threads_are_all_applied() throws Exception {
+        var scoreBoard = new ConcurrentScoreBoard();
+        int threads = 8;
+        int goalsPerMatch = 500;
+        var matchIds = new ArrayList<Integer>();
+        for (int i = 0; i < threads; i++) {
+            matchIds.add(scoreBoard.newMatch("Home " + i, "Away " + i));
+        }
+
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (int matchId : matchIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int goal = 1; goal <= goalsPerMatch; goal++) {
+                        scoreBoard.updateMatch(matchId, goal, 0);
+                        // Readers must never see the half of an update
+                        assertThat(scoreBoard.getSummary()).allMatch(summary -> summary.awayTeamScore() == 0);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(scoreBoard.getSummary())
+                .hasSize(threads)
+                .allMatch(summary -> summary.homeTeamScore() == goalsPerMatch);
+    }
+
+    @Test
+    void a_summary_shows_the_board_at_one_point_in_time() throws Exception {
+        var scoreBoard = new ConcurrentScoreBoard();
+        var leadingMatchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var trailingMatchId = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        int goals = 2000;
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            // The trailing match only ever scores after the leading one did
+            var writer = executor.submit(() -> {
+                for (int goal = 1; goal <= goals; goal++) {
+                    scoreBoard.updateMatch(leadingMatchId, goal, 0);
+                    scoreBoard.updateMatch(trailingMatchId, goal, 0);
+                }
+                return null;
+            });
+            var reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    var scores = new HashMap<String, Integer>();
+                    scoreBoard.getSummary().forEach(summary ->
+                            scores.put(summary.homeTeamName(), summary.homeTeamScore()));
+                    assertThat(scores.get(TEAM_1_NAME) - scores.get(TEAM_3_NAME)).isBetween(0, 1);
+                }
+                return null;
+            });
+
+            writer.get(30, TimeUnit.SECONDS);
+            reader.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void only_one_of_many_concurrent_matches_for_the_same_team_is_started() throws Exception {
+        var scoreBoard = new ConcurrentScoreBoard();
+        int threads = 8;
+        var started = new AtomicInteger();
+
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                var opponent = "Opponent " + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        scoreBoard.newMatch(TEAM_1_NAME, opponent);
+                        started.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        assertThat(e).hasMessageContaining(ONE_MATCH_PER_TEAM);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(scoreBoard.getSummary()).hasSize(1);
+    }
+
+    @Test
+    void a_big_summary_is_built_in_parallel_in_the_same_order() {
+        var scoreBoard = new ConcurrentScoreBoard();
+        var expected = new ScoreBoard();
+        for (int i = 0; i < ScoreBoard.PARALLEL_THRESHOLD + 10; i++) {
+            var matchId = scoreBoard.newMatch("Home " + i, "Away " + i);
+            expected.newMatch("Home " + i, "Away " + i);
+            if (i % 3 == 0) {
+                scoreBoard.updateMatch(matchId, 1, 0);
+                expected.updateMatch(matchId, 1, 0);
+            }
+        }
+
+        assertThat(scoreBoard.getSummary()).isEqualTo(expected.getSummary());
+    }
+}
@@ -0,0 +1,48 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntMatchMapTest {
+
+    @Test
+    void a_match_can_be_found_by_its_id_until_it_is_removed() {
+        var map = new IntMatchMap();
+        var match = new Match(7, "Team 1", "Team 2");
+
+        assertThat(map.put(7, match)).isNull();
+        assertThat(map.get(7)).isSameAs(match);
+        assertThat(map.size()).isEqualTo(1);
+
+        assertThat(map.remove(7)).isSameAs(match);
+        assertThat(map.get(7)).isNull();
+        assertThat(map.remove(7)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void behaves_like_a_hash_map_for_many_random_puts_and_removes() {
+        var map = new IntMatchMap();
+        var expected = new HashMap<Integer, Match>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            int id = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                var match = new Match(id, "Home", "Away");
+                assertThat(map.put(id, match)).isSameAs(expected.put(id, match));
+            } else {
+                assertThat(map.remove(id)).isSameAs(expected.remove(id));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int id = 0; id < 2_000; id++) {
+            assertThat(map.get(id)).isSameAs(expected.get(id));
+        }
+    }
+}
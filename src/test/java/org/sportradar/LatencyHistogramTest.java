@@ -0,0 +1,40 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentiles_are_reported_within_the_bucket_precision() {
+        var histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getMax()).isEqualTo(100_000);
+        assertThat(histogram.getPercentile(50)).isCloseTo(50_000, within(50_000 / 32L));
+        assertThat(histogram.getPercentile(99)).isCloseTo(99_000, within(99_000 / 32L));
+        assertThat(histogram.getPercentile(100)).isEqualTo(100_000);
+    }
+
+    @Test
+    void every_value_falls_in_a_bucket_that_covers_it() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            var bucket = LatencyHistogram.bucketOf(value);
+
+            assertThat(LatencyHistogram.highestValueOf(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValueOf(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void an_empty_histogram_reports_zero() {
+        assertThat(new LatencyHistogram().getPercentile(99)).isZero();
+    }
+}
@@ -0,0 +1,134 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchHistoryTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2024-06-14T19:00:00Z");
+
+    private final TestClock clock = new TestClock();
+    private final ScoreBoard scoreBoard = new ScoreBoard(clock, Runnable::run);
+
+    @Test
+    void a_finished_match_is_kept_in_the_history_with_its_final_result() {
+        var matchId = scoreBoard.newMatch("Germany", "Scotland");
+        scoreBoard.updateMatch(matchId, 1, 0);
+        clock.advance(Duration.ofMinutes(105));
+
+        scoreBoard.finishMatch(matchId);
+
+        assertThat(scoreBoard.getHistory().size()).isEqualTo(1);
+        assertThat(scoreBoard.getHistory().resultsForTeam("Scotland")).containsExactly(new FinishedMatch(
+                matchId, new MatchSummary("Germany", 1, "Scotland", 0), KICK_OFF.plus(Duration.ofMinutes(105))));
+    }
+
+    @Test
+    void a_board_without_history_forgets_finished_matches() {
+        var shardBoard = new ScoreBoard(clock, Runnable::run, ScoreBoardMetrics.NOOP, false);
+        var matchId = shardBoard.newMatch("Germany", "Scotland");
+
+        shardBoard.finishMatch(matchId);
+
+        assertThat(shardBoard.getHistory().size()).isZero();
+        assertThat(shardBoard.getHistory().resultsForTeam("Scotland")).isEmpty();
+    }
+
+    @Test
+    void all_results_for_a_team_are_found_whether_it_played_home_or_away() {
+        var firstMatchId = finishAfter(Duration.ofHours(2), "Germany", 5, "Scotland", 1);
+        finishAfter(Duration.ofHours(1), "Hungary", 1, "Switzerland", 3);
+        var thirdMatchId = finishAfter(Duration.ofDays(4), "Scotland", 1, "Switzerland", 1);
+
+        assertThat(scoreBoard.getHistory().resultsForTeam("Scotland"))
+                .extracting(FinishedMatch::matchId)
+                .containsExactly(firstMatchId, thirdMatchId);
+        assertThat(scoreBoard.getHistory().resultsForTeam("Spain")).isEmpty();
+    }
+
+    @Test
+    void results_are_found_by_the_time_they_finished() {
+        finishAfter(Duration.ofHours(2), "Germany", 5, "Scotland", 1);
+        var secondMatchId = finishAfter(Duration.ofHours(1), "Hungary", 1, "Switzerland", 3);
+        var thirdMatchId = finishAfter(Duration.ofHours(1), "Spain", 3, "Croatia", 0);
+        finishAfter(Duration.ofDays(1), "Italy", 2, "Albania", 1);
+
+        var results = scoreBoard.getHistory().resultsBetween(
+                KICK_OFF.plus(Duration.ofHours(3)), KICK_OFF.plus(Duration.ofHours(5)));
+
+        assertThat(results).extracting(FinishedMatch::matchId).containsExactly(secondMatchId, thirdMatchId);
+    }
+
+    @Test
+    void highest_scoring_matches_in_a_time_range_come_biggest_total_first_then_latest_finished_first() {
+        var day = KICK_OFF.plus(Duration.ofDays(1));
+        finishAfter(Duration.ofHours(2), "Germany", 5, "Scotland", 1);
+        clock.advance(Duration.ofDays(1));
+        var hungarySwitzerland = finishAfter(Duration.ofHours(1), "Hungary", 1, "Switzerland", 3);
+        finishAfter(Duration.ofHours(1), "Spain", 3, "Croatia", 0);
+        var italyAlbania = finishAfter(Duration.ofHours(1), "Italy", 3, "Albania", 1);
+        var polandNetherlands = finishAfter(Duration.ofHours(1), "Poland", 1, "Netherlands", 2);
+
+        var top3 = scoreBoard.getHistory().highestScoring(day, day.plus(Duration.ofDays(1)), 3);
+
+        assertThat(top3).extracting(FinishedMatch::matchId)
+                .containsExactly(italyAlbania, hungarySwitzerland, polandNetherlands);
+    }
+
+    @Test
+    void a_corrected_score_of_any_size_is_indexed_without_room_for_every_smaller_total() {
+        var lowMatchId = finishAfter(Duration.ofHours(2), "Germany", 1, "Scotland", 0);
+        var highMatchId = scoreBoard.newMatch("Hungary", "Switzerland");
+        scoreBoard.correctScore(highMatchId, 1_000_000_000, 0, "Feed error");
+        scoreBoard.finishMatch(highMatchId);
+
+        assertThat(scoreBoard.getHistory().highestScoring(Instant.MIN, Instant.MAX, 2))
+                .extracting(FinishedMatch::matchId)
+                .containsExactly(highMatchId, lowMatchId);
+    }
+
+    private int finishAfter(Duration playTime, String homeTeam, int homeTeamScore, String awayTeam, int awayTeamScore) {
+        var matchId = scoreBoard.newMatch(homeTeam, awayTeam);
+        for (int score = 1; score <= homeTeamScore; score++) {
+            scoreBoard.updateMatch(matchId, score, 0);
+        }
+        for (int score = 1; score <= awayTeamScore; score++) {
+            scoreBoard.updateMatch(matchId, homeTeamScore, score);
+        }
+        clock.advance(playTime);
+        scoreBoard.finishMatch(matchId);
+
+        return matchId;
+    }
+
+    static class TestClock extends Clock {
+
+        private Instant now = KICK_OFF;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
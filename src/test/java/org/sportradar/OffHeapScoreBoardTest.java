@@ -0,0 +1,129 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.OffHeapScoreBoard.ROWS_PER_SLAB;
+import static org.sportradar.OffHeapScoreBoard.SCORE_BOARD_IS_CLOSED;
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+
+class OffHeapScoreBoardTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+    public static final String TEAM_3_NAME = "Team 3";
+    public static final String TEAM_4_NAME = "Team 4";
+
+    @Test
+    void follows_the_same_rules_as_the_on_heap_score_board() {
+        try (var scoreBoard = new OffHeapScoreBoard()) {
+            var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+            scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+            scoreBoard.updateMatch(match1Id, 1, 0);
+
+            assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_2_NAME, TEAM_3_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ONE_MATCH_PER_TEAM);
+            assertThatThrownBy(() -> scoreBoard.updateMatch(match1Id, 1, 0)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(NO_CHANGES_IN_SCORE_UPDATE);
+            assertThat(scoreBoard.tryUpdateMatch(match1Id, 3, 0)).isEqualTo(ScoreBoardResult.MAX_ONE_GOAL_INCREASE);
+            assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)).isEqualTo(1);
+
+            scoreBoard.finishMatch(match1Id);
+
+            assertThatThrownBy(() -> scoreBoard.finishMatch(match1Id)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(MATCH_DOES_NOT_EXIST);
+            assertThatThrownBy(() -> scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+            assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+        }
+    }
+
+    @Test
+    void a_rejected_new_match_does_not_register_its_teams() {
+        try (var scoreBoard = new OffHeapScoreBoard()) {
+            scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+            assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_3_NAME, TEAM_1_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ONE_MATCH_PER_TEAM);
+            assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_2_NAME, TEAM_4_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ONE_MATCH_PER_TEAM);
+
+            assertThat(scoreBoard.getTeams().idOf(TEAM_3_NAME)).isEqualTo(TeamRegistry.UNKNOWN_TEAM);
+            assertThat(scoreBoard.getTeams().idOf(TEAM_4_NAME)).isEqualTo(TeamRegistry.UNKNOWN_TEAM);
+            assertThat(scoreBoard.getTeams().size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void summary_is_the_same_as_the_on_heap_score_board_across_slabs() {
+        var expected = new ScoreBoard();
+        try (var scoreBoard = new OffHeapScoreBoard()) {
+            var matchIds = new ArrayList<Integer>();
+            for (int i = 0; i < ROWS_PER_SLAB + 100; i++) {
+                matchIds.add(scoreBoard.newMatch("Home " + i, "Away " + i));
+                expected.newMatch("Home " + i, "Away " + i);
+            }
+            for (int matchId : matchIds) {
+                if (matchId % 3 == 0) {
+                    scoreBoard.updateMatch(matchId, 1, 0);
+                    expected.updateMatch(matchId, 1, 0);
+                }
+                if (matchId % 7 == 0) {
+                    scoreBoard.finishMatch(matchId);
+                    expected.finishMatch(matchId);
+                }
+            }
+            // Reuses the rows of finished matches
+            scoreBoard.newMatch("Home 0", "Away 0");
+            expected.newMatch("Home 0", "Away 0");
+
+            assertThat(scoreBoard.getSummary()).isEqualTo(expected.getSummary());
+            assertThat(scoreBoard.getTop(10)).isEqualTo(expected.getTop(10));
+            assertThat(scoreBoard.size()).isEqualTo(expected.getSummary().size());
+            assertThat(scoreBoard.getOffHeapBytes()).isPositive();
+        }
+    }
+
+    @Test
+    void only_live_matches_take_up_memory() {
+        try (var scoreBoard = new OffHeapScoreBoard()) {
+            var liveMatchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+            var lastMatchId = liveMatchId;
+            for (int i = 0; i < 100_000; i++) {
+                lastMatchId = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+                scoreBoard.finishMatch(lastMatchId);
+            }
+            var finishedMatchId = lastMatchId;
+            scoreBoard.updateMatch(liveMatchId, 1, 0);
+
+            assertThat(scoreBoard.getIndexCapacity()).isLessThanOrEqualTo(16);
+            assertThat(scoreBoard.getOffHeapBytes()).isEqualTo((long) ROWS_PER_SLAB * 20);
+            assertThat(scoreBoard.tryUpdateMatch(finishedMatchId, 1, 0)).isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+            assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+        }
+    }
+
+    @Test
+    void a_closed_board_can_not_be_used() {
+        var scoreBoard = new OffHeapScoreBoard();
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        scoreBoard.close();
+
+        assertThatThrownBy(scoreBoard::getSummary
+        ).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(SCORE_BOARD_IS_CLOSED);
+    }
+}
@@ -0,0 +1,186 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sportradar.Json.INVALID_JSON;
+import static org.sportradar.Json.WRONG_FIELD_TYPE;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+import static org.sportradar.ScoreBoardHttpServer.INTERNAL_ERROR;
+import static org.sportradar.ScoreBoardHttpServer.METHOD_NOT_ALLOWED;
+import static org.sportradar.ScoreBoardHttpServer.SCORE_BOARD_UNAVAILABLE;
+import static org.sportradar.ScoreBoardHttpServer.UNKNOWN_RESOURCE;
+
+class ScoreBoardHttpServerTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team \"2\"";
+
+    private ConcurrentScoreBoard scoreBoard;
+    private ScoreBoardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        scoreBoard = new ConcurrentScoreBoard();
+        server = ScoreBoardHttpServer.start(scoreBoard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void runs_all_score_board_operations_over_http() throws Exception {
+        var started = send("POST", "/matches", "{\"homeTeamName\": \"Team 1\", \"awayTeamName\": \"Team \\\"2\\\"\"}");
+        assertThat(started.statusCode()).isEqualTo(201);
+        assertThat(started.body()).isEqualTo("{\"matchId\":0}");
+
+        assertThat(send("PUT", "/matches/0", "{\"homeTeamScore\": 1, \"awayTeamScore\": 0}").statusCode())
+                .isEqualTo(204);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+
+        var goals = send("GET", "/teams/Team%201/goals", null);
+        assertThat(goals.statusCode()).isEqualTo(200);
+        assertThat(goals.body()).isEqualTo("{\"goals\":1}");
+
+        var summary = send("GET", "/summary", null);
+        assertThat(summary.statusCode()).isEqualTo(200);
+        assertThat(summary.headers().firstValue("Content-Type")).hasValue("application/json; charset=utf-8");
+        assertThat(summary.body()).isEqualTo(
+                "[{\"homeTeamName\":\"Team 1\",\"homeTeamScore\":1,\"awayTeamName\":\"Team \\\"2\\\"\",\"awayTeamScore\":0}]");
+
+        assertThat(send("DELETE", "/matches/0", null).statusCode()).isEqualTo(204);
+        assertThat(send("GET", "/summary", null).body()).isEqualTo("[]");
+    }
+
+    @Test
+    void broken_rules_are_answered_with_their_error() throws Exception {
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var sameScore = send("PUT", "/matches/0", "{\"homeTeamScore\": 0, \"awayTeamScore\": 0}");
+        assertThat(sameScore.statusCode()).isEqualTo(400);
+        assertThat(sameScore.body()).isEqualTo(Json.field("error", NO_CHANGES_IN_SCORE_UPDATE));
+
+        assertThat(send("DELETE", "/matches/1", null).body()).isEqualTo(Json.field("error", MATCH_DOES_NOT_EXIST));
+        assertThat(send("GET", "/teams/Team%203/goals", null).body())
+                .isEqualTo(Json.field("error", TEAM_IS_NOT_IN_AN_ACTIVE_MATCH));
+        assertThat(send("POST", "/matches", "{\"homeTeamName\": ").body())
+                .isEqualTo(Json.field("error", INVALID_JSON));
+
+        var numberAsName = send("POST", "/matches", "{\"homeTeamName\": 1, \"awayTeamName\": \"Team 3\"}");
+        assertThat(numberAsName.statusCode()).isEqualTo(400);
+        assertThat(numberAsName.body()).isEqualTo(Json.field("error", WRONG_FIELD_TYPE + "homeTeamName"));
+        assertThat(send("PUT", "/matches/0", "{\"homeTeamScore\": \"1\", \"awayTeamScore\": 0}").body())
+                .isEqualTo(Json.field("error", WRONG_FIELD_TYPE + "homeTeamScore"));
+
+        var unknown = send("GET", "/scores", null);
+        assertThat(unknown.statusCode()).isEqualTo(404);
+        assertThat(unknown.body()).isEqualTo(Json.field("error", UNKNOWN_RESOURCE));
+
+        var wrongMethod = send("DELETE", "/summary", null);
+        assertThat(wrongMethod.statusCode()).isEqualTo(405);
+        assertThat(wrongMethod.body()).isEqualTo(Json.field("error", METHOD_NOT_ALLOWED));
+    }
+
+    @Test
+    void a_closed_board_is_answered_with_service_unavailable() throws Exception {
+        server.close();
+        var offHeapScoreBoard = new OffHeapScoreBoard();
+        offHeapScoreBoard.close();
+        server = ScoreBoardHttpServer.start(offHeapScoreBoard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        var offHeapSummary = send("GET", "/summary", null);
+        assertThat(offHeapSummary.statusCode()).isEqualTo(503);
+        assertThat(offHeapSummary.body()).isEqualTo(Json.field("error", SCORE_BOARD_UNAVAILABLE));
+
+        server.close();
+        var shardedScoreBoard = new ShardedScoreBoard(2);
+        shardedScoreBoard.close();
+        server = ScoreBoardHttpServer.start(shardedScoreBoard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        var shardedUpdate = send("PUT", "/matches/0", "{\"homeTeamScore\": 1, \"awayTeamScore\": 0}");
+        assertThat(shardedUpdate.statusCode()).isEqualTo(503);
+        assertThat(shardedUpdate.body()).isEqualTo(Json.field("error", SCORE_BOARD_UNAVAILABLE));
+    }
+
+    @Test
+    void any_other_failure_is_answered_with_an_internal_error() throws Exception {
+        server.close();
+        server = ScoreBoardHttpServer.start(new FailingScoreBoard(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        var summary = send("GET", "/summary", null);
+
+        assertThat(summary.statusCode()).isEqualTo(500);
+        assertThat(summary.body()).isEqualTo(Json.field("error", INTERNAL_ERROR));
+    }
+
+    @Test
+    void summary_is_only_serialized_again_after_a_mutation() {
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var serialized = server.getSerializedSummary();
+        assertThat(server.getSerializedSummary()).isSameAs(serialized);
+
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        assertThat(server.getSerializedSummary()).isNotSameAs(serialized);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        var address = server.getAddress();
+        var request = HttpRequest.newBuilder(
+                        URI.create("http://" + address.getHostString() + ":" + address.getPort() + path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static final class FailingScoreBoard implements LiveScoreBoard {
+
+        @Override
+        public int newMatch(String homeTeam, String awayTeam) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateMatch(int matchId, int newHomeTeamScore, int newAwayTeamScore) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void finishMatch(int matchId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<MatchSummary> getSummary() {
+            throw new NullPointerException("Summary is not there");
+        }
+
+        @Override
+        public int getCurrentGoalsForTeam(String teamName) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
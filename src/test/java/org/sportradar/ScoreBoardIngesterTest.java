@@ -0,0 +1,110 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoardIngester.CAPACITY_NOT_A_POWER_OF_TWO;
+import static org.sportradar.ScoreBoardIngester.INGESTER_IS_CLOSED;
+
+class ScoreBoardIngesterTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+
+    @Test
+    void updates_are_applied_with_their_validation_outcome() throws Exception {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        try (var ingester = new ScoreBoardIngester(scoreBoard, 8)) {
+            var goal = ingester.updateMatch(matchId, 1, 0);
+            var sameScore = ingester.updateMatch(matchId, 1, 0);
+            var unknownMatch = ingester.updateMatch(matchId + 1, 1, 0);
+
+            assertThat(goal.get(5, TimeUnit.SECONDS).isApplied()).isTrue();
+            assertThat(sameScore.get(5, TimeUnit.SECONDS).rejectionReason()).isEqualTo(NO_CHANGES_IN_SCORE_UPDATE);
+            assertThat(unknownMatch.get(5, TimeUnit.SECONDS).rejectionReason()).isEqualTo(MATCH_DOES_NOT_EXIST);
+            assertThat(ingester.execute(ScoreBoard::getSummary).get(5, TimeUnit.SECONDS))
+                    .containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+        }
+    }
+
+    @Test
+    void operations_run_after_the_updates_queued_before_them() throws Exception {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        try (var ingester = new ScoreBoardIngester(scoreBoard, 4)) {
+            for (int goal = 1; goal <= 100; goal++) {
+                ingester.updateMatch(matchId, goal, 0);
+            }
+
+            assertThat(ingester.execute(board -> board.getCurrentGoalsForTeam(TEAM_1_NAME)).get(5, TimeUnit.SECONDS))
+                    .isEqualTo(100);
+        }
+    }
+
+    @Test
+    void updates_from_many_producers_all_pass_through_a_small_ring() throws Exception {
+        var scoreBoard = new ScoreBoard();
+        int producers = 8;
+        int goalsPerMatch = 2000;
+        var matchIds = new ArrayList<Integer>();
+        for (int i = 0; i < producers; i++) {
+            matchIds.add(scoreBoard.newMatch("Home " + i, "Away " + i));
+        }
+
+        try (var ingester = new ScoreBoardIngester(scoreBoard, 16);
+             var executor = Executors.newFixedThreadPool(producers)) {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (int matchId : matchIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    CompletableFuture<ScoreEventResult> last = null;
+                    for (int goal = 1; goal <= goalsPerMatch; goal++) {
+                        last = ingester.updateMatch(matchId, goal, 0);
+                    }
+                    return last.get(30, TimeUnit.SECONDS);
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).extracting("rejectionReason").isNull();
+            }
+
+            assertThat(ingester.execute(ScoreBoard::getSummary).get(30, TimeUnit.SECONDS))
+                    .hasSize(producers)
+                    .allMatch(summary -> summary.homeTeamScore() == goalsPerMatch);
+        }
+    }
+
+    @Test
+    void closing_applies_the_queued_updates_and_rejects_new_ones() throws Exception {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var ingester = new ScoreBoardIngester(scoreBoard);
+        var goal = ingester.updateMatch(matchId, 0, 1);
+
+        ingester.close();
+
+        assertThat(goal).isCompleted();
+        assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_2_NAME)).isEqualTo(1);
+        assertThatThrownBy(() -> ingester.updateMatch(matchId, 0, 2)
+        ).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(INGESTER_IS_CLOSED);
+    }
+
+    @Test
+    void ring_capacity_must_be_a_power_of_two() {
+        assertThatThrownBy(() -> new ScoreBoardIngester(new ScoreBoard(), 1000)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(CAPACITY_NOT_A_POWER_OF_TWO);
+    }
+}
@@ -0,0 +1,229 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.ScoreBoardJournal.EVENTS_PER_BATCH_RECORD;
+import static org.sportradar.ScoreBoardJournal.MAX_PAYLOAD_SIZE;
+import static org.sportradar.ScoreBoardJournal.RECORD_TOO_LARGE;
+import static org.sportradar.ScoreBoardJournal.SNAPSHOT_FILE;
+import static org.sportradar.ScoreBoardMetrics.Operation.NEW_MATCH;
+import static org.sportradar.ScoreBoardMetrics.Operation.UPDATE_MATCH;
+
+class ScoreBoardJournalTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+    public static final String TEAM_3_NAME = "Team 3";
+    public static final String TEAM_4_NAME = "Team 4";
+    public static final String TEAM_5_NAME = "Team 5";
+    public static final String TEAM_6_NAME = "Team 6";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void a_new_directory_recovers_to_an_empty_board() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+
+        assertThat(scoreBoard.getSummary()).isEmpty();
+        assertThat(scoreBoard.getVersion()).isZero();
+        assertThat(scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME)).isZero();
+    }
+
+    @Test
+    void every_change_is_recovered_with_the_same_ids_and_version() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        playSomeMatches(scoreBoard, "");
+        scoreBoard.closeJournal();
+
+        var recovered = ScoreBoard.recover(directory);
+
+        assertSameState(recovered, scoreBoard);
+        assertThat(recovered.newMatch(TEAM_1_NAME, TEAM_4_NAME)).isEqualTo(scoreBoard.newMatch(TEAM_1_NAME, TEAM_4_NAME));
+    }
+
+    @Test
+    void changes_are_recovered_after_a_crash_without_closing_the_journal() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        playSomeMatches(scoreBoard, "");
+
+        assertSameState(ScoreBoard.recover(directory), scoreBoard);
+    }
+
+    @Test
+    void a_recovered_board_keeps_journaling() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        playSomeMatches(scoreBoard, "");
+        scoreBoard.closeJournal();
+
+        var recovered = ScoreBoard.recover(directory);
+        var matchId = recovered.newMatch(TEAM_1_NAME, TEAM_4_NAME);
+        recovered.updateMatch(matchId, 0, 1);
+        recovered.closeJournal();
+
+        assertSameState(ScoreBoard.recover(directory), recovered);
+    }
+
+    @Test
+    void periodic_snapshots_bound_the_journal_and_recover_the_same_state() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory, 5);
+        playSomeMatches(scoreBoard, "First round ");
+        playSomeMatches(scoreBoard, "Second round ");
+
+        assertThat(directory.resolve(SNAPSHOT_FILE)).exists();
+        assertSameState(ScoreBoard.recover(directory, 5), scoreBoard);
+    }
+
+    @Test
+    void a_batch_bigger_than_one_journal_record_is_recovered_as_one_batch() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        var goals = new ArrayList<ScoreEvent>();
+        for (int i = 0; i < EVENTS_PER_BATCH_RECORD + 10; i++) {
+            goals.add(new ScoreEvent(scoreBoard.newMatch("Home " + i, "Away " + i), 1, 0));
+        }
+        scoreBoard.applyBatch(goals);
+
+        assertSameState(ScoreBoard.recover(directory), scoreBoard);
+    }
+
+    @Test
+    void sequenced_updates_are_recovered_with_the_ones_still_held_back() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory, 3);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.tryUpdateMatch(matchId, 1, 1, 0);
+        scoreBoard.tryUpdateMatch(matchId, 3, 2, 1);
+        scoreBoard.tryUpdateMatch(matchId, 5, 3, 1);
+
+        var recovered = ScoreBoard.recover(directory, 3);
+        assertSameState(recovered, scoreBoard);
+        assertThat(recovered.tryUpdateMatch(matchId, 3, 2, 1)).isEqualTo(ScoreBoardResult.DUPLICATE_UPDATE);
+        assertThat(recovered.tryUpdateMatch(matchId, 2, 2, 0)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(recovered.tryUpdateMatch(matchId, 4, 3, 1)).isEqualTo(ScoreBoardResult.OK);
+
+        assertThat(recovered.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 3, TEAM_2_NAME, 1));
+        assertSameState(ScoreBoard.recover(directory, 3), recovered);
+    }
+
+    @Test
+    void a_resynced_match_is_recovered_past_its_lost_sequence() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.tryUpdateMatch(matchId, 1, 1, 0);
+        scoreBoard.tryUpdateMatch(matchId, 3, 2, 1);
+        scoreBoard.tryUpdateMatch(matchId, 4, 3, 1);
+        scoreBoard.resyncMatch(matchId, 3, 2, 1);
+
+        var recovered = ScoreBoard.recover(directory);
+        assertSameState(recovered, scoreBoard);
+        assertThat(recovered.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 3, TEAM_2_NAME, 1));
+        assertThat(recovered.tryUpdateMatch(matchId, 5, 3, 2)).isEqualTo(ScoreBoardResult.OK);
+    }
+
+    @Test
+    void tagged_matches_are_recovered_with_their_tags() throws IOException {
+        // Two tagged matches end up in the snapshot and the third one in the journal
+        var scoreBoard = ScoreBoard.recover(directory, 6);
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME, Set.of("Euro"));
+        scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME, Set.of("Euro", "Group B"));
+        var matchId = scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME, Set.of("Friendly"));
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        var recovered = ScoreBoard.recover(directory, 6);
+
+        assertSameState(recovered, scoreBoard);
+        for (var tag : List.of("Euro", "Group B", "Friendly")) {
+            assertThat(recovered.getSummary(SummaryFilter.tagged(tag)))
+                    .isEqualTo(scoreBoard.getSummary(SummaryFilter.tagged(tag)))
+                    .isNotEmpty();
+        }
+    }
+
+    @Test
+    void a_board_recovered_with_metrics_reports_only_what_happens_after_the_replay() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.updateMatch(matchId, 1, 0);
+        scoreBoard.closeJournal();
+
+        var metrics = new ScoreBoardMetricsRecorder();
+        var recovered = ScoreBoard.recover(directory, metrics);
+
+        assertThat(metrics.getLiveMatches()).isEqualTo(2);
+        assertThat(metrics.getOperationCounts()).containsEntry(NEW_MATCH.name(), 0L).containsEntry(UPDATE_MATCH.name(), 0L);
+
+        recovered.updateMatch(matchId, 2, 0);
+
+        assertThat(metrics.getOperationCounts()).containsEntry(UPDATE_MATCH.name(), 1L);
+    }
+
+    @Test
+    void a_name_too_large_for_a_journal_record_is_rejected_before_the_board_changes() throws IOException {
+        var scoreBoard = ScoreBoard.recover(directory);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var oversizedName = "x".repeat(MAX_PAYLOAD_SIZE);
+
+        assertThatThrownBy(() ->
+                scoreBoard.newMatch(oversizedName, TEAM_3_NAME)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(RECORD_TOO_LARGE);
+        assertThatThrownBy(() ->
+                scoreBoard.registerTeam(oversizedName)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(RECORD_TOO_LARGE);
+        assertThatThrownBy(() ->
+                scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME, Set.of(oversizedName))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(RECORD_TOO_LARGE);
+        assertThatThrownBy(() ->
+                scoreBoard.correctScore(matchId, 1, 0, oversizedName)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(RECORD_TOO_LARGE);
+        assertThat(scoreBoard.getTeams().idOf(oversizedName)).isEqualTo(TeamRegistry.UNKNOWN_TEAM);
+
+        // The journal has only what the board accepted, and the largest name that fits still does
+        scoreBoard.newMatch("x".repeat(MAX_PAYLOAD_SIZE - Integer.BYTES), TEAM_3_NAME);
+        var recovered = ScoreBoard.recover(directory);
+
+        assertSameState(recovered, scoreBoard);
+    }
+
+    private static void playSomeMatches(ScoreBoard scoreBoard, String round) {
+        var match1Id = scoreBoard.newMatch(round + TEAM_1_NAME, round + TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(round + TEAM_3_NAME, round + TEAM_4_NAME);
+        var match3Id = scoreBoard.newMatch(round + TEAM_5_NAME, round + TEAM_6_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+        scoreBoard.applyBatch(List.of(
+                new ScoreEvent(match2Id, 0, 1),
+                new ScoreEvent(match2Id, 0, 5),
+                new ScoreEvent(match3Id, 1, 0)));
+        scoreBoard.updateMatch(match2Id, 0, 2);
+        scoreBoard.finishMatch(match1Id);
+        scoreBoard.finishMatch(match2Id);
+        var match4Id = scoreBoard.newMatch(round + TEAM_2_NAME, round + TEAM_3_NAME);
+        scoreBoard.updateMatch(match4Id, 1, 0);
+        scoreBoard.correctScore(match3Id, 0, 0, "Goal disallowed");
+    }
+
+    private static void assertSameState(ScoreBoard recovered, ScoreBoard expected) {
+        assertThat(recovered.getSummary()).isEqualTo(expected.getSummary());
+        assertThat(recovered.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(recovered.getNextMatchId()).isEqualTo(expected.getNextMatchId());
+        assertThat(recovered.getHistory().resultsBetween(Instant.EPOCH, Instant.MAX))
+                .isEqualTo(expected.getHistory().resultsBetween(Instant.EPOCH, Instant.MAX));
+        assertThat(recovered.getTeams().size()).isEqualTo(expected.getTeams().size());
+        for (int teamId = 0; teamId < expected.getTeams().size(); teamId++) {
+            assertThat(recovered.getTeams().nameOf(teamId)).isEqualTo(expected.getTeams().nameOf(teamId));
+        }
+    }
+}
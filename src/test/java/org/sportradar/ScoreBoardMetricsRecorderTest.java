@@ -0,0 +1,139 @@
+package org.sportradar;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoardMetrics.Operation.*;
+import static org.sportradar.Team.MAX_ONE_GOAL_INCREASE;
+
+class ScoreBoardMetricsRecorderTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+    public static final String TEAM_3_NAME = "Team 3";
+
+    @Test
+    void operations_and_rejections_are_counted() {
+        var metrics = new ScoreBoardMetricsRecorder();
+        var scoreBoard = new ScoreBoard(metrics);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.updateMatch(matchId, 1, 0);
+        scoreBoard.getSummary();
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_1_NAME, TEAM_3_NAME)).hasMessage(ONE_MATCH_PER_TEAM);
+        assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 1, 0)).hasMessage(NO_CHANGES_IN_SCORE_UPDATE);
+        assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 3, 0)).hasMessage(MAX_ONE_GOAL_INCREASE);
+        scoreBoard.applyBatch(List.of(new ScoreEvent(matchId, 2, 0), new ScoreEvent(matchId + 1, 1, 0)));
+
+        assertThat(metrics.getLiveMatches()).isEqualTo(1);
+        assertThat(metrics.getOperationCounts())
+                .containsEntry(NEW_MATCH.name(), 2L)
+                .containsEntry(UPDATE_MATCH.name(), 3L)
+                .containsEntry(APPLY_BATCH.name(), 1L)
+                .containsEntry(GET_SUMMARY.name(), 1L)
+                .containsEntry(FINISH_MATCH.name(), 0L);
+        assertThat(metrics.getRejectionCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ScoreBoardResult.ONE_MATCH_PER_TEAM.name(), 1L,
+                ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE.name(), 1L,
+                ScoreBoardResult.MAX_ONE_GOAL_INCREASE.name(), 1L,
+                ScoreBoardResult.MATCH_DOES_NOT_EXIST.name(), 1L));
+        assertThat(metrics.getLatencyHistogram(UPDATE_MATCH).getCount()).isEqualTo(3);
+
+        scoreBoard.finishMatch(matchId);
+
+        assertThat(metrics.getLiveMatches()).isZero();
+    }
+
+    @Test
+    void held_back_updates_are_recorded_when_they_are_applied() {
+        var metrics = new ScoreBoardMetricsRecorder();
+        var scoreBoard = new ScoreBoard(metrics);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.tryUpdateMatch(matchId, 2, 2, 0);
+        scoreBoard.tryUpdateMatch(matchId, 4, 5, 0);
+
+        scoreBoard.tryUpdateMatch(matchId, 1, 1, 0);
+        scoreBoard.resyncMatch(matchId, 3, 3, 0);
+
+        assertThat(metrics.getOperationCounts())
+                .containsEntry(UPDATE_MATCH.name(), 3L)
+                .containsEntry(RESYNC_MATCH.name(), 1L);
+        assertThat(metrics.getRejectionCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(ScoreBoardResult.MAX_ONE_GOAL_INCREASE.name(), 1L));
+    }
+
+    @Test
+    void a_snapshot_lists_every_metric_as_plain_text() {
+        var metrics = new ScoreBoardMetricsRecorder();
+        var scoreBoard = new ScoreBoard(metrics);
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 0, 0)).hasMessage(NO_CHANGES_IN_SCORE_UPDATE);
+
+        assertThat(metrics.snapshot().lines())
+                .contains("scoreboard_live_matches 1",
+                        "scoreboard_operations_total{operation=\"NEW_MATCH\"} 1",
+                        "scoreboard_operations_total{operation=\"UPDATE_MATCH\"} 1",
+                        "scoreboard_rejections_total{reason=\"NO_CHANGES_IN_SCORE_UPDATE\"} 1")
+                .anyMatch(line -> line.startsWith("scoreboard_latency_nanos{operation=\"UPDATE_MATCH\",quantile=\"0.99\"} "));
+    }
+
+    @Test
+    void metrics_are_exported_as_an_mbean() throws Exception {
+        var metrics = new ScoreBoardMetricsRecorder();
+        var scoreBoard = new ScoreBoard(metrics);
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var name = metrics.registerMBean("metrics test");
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+
+            assertThat(name).isEqualTo(new ObjectName("org.sportradar:type=ScoreBoard,name=\"metrics test\""));
+            assertThat(server.getAttribute(name, "LiveMatches")).isEqualTo(1);
+            var counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            assertThat(counts.get(new Object[]{NEW_MATCH.name()}).get("value")).isEqualTo(1L);
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void every_mutation_is_a_jfr_event(@TempDir Path directory) throws Exception {
+        var metrics = new ScoreBoardMetricsRecorder();
+        var scoreBoard = new ScoreBoard(metrics);
+        var recordingFile = directory.resolve("scoreboard.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(ScoreBoardMutationEvent.class);
+            recording.start();
+            var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+            scoreBoard.getSummary();
+            assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 0, 0)).hasMessage(NO_CHANGES_IN_SCORE_UPDATE);
+            scoreBoard.finishMatch(matchId);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        assertThat(RecordingFile.readAllEvents(recordingFile))
+                .filteredOn(event -> event.getEventType().getName().equals("org.sportradar.ScoreBoardMutation"))
+                .extracting(event -> event.getString("operation"), event -> event.getInt("matchId"),
+                        (RecordedEvent event) -> event.getString("rejectionReason"))
+                .containsExactly(
+                        tuple(NEW_MATCH.name(), 0, null),
+                        tuple(UPDATE_MATCH.name(), 0, ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE.name()),
+                        tuple(FINISH_MATCH.name(), 0, null));
+    }
+}
@@ -0,0 +1,131 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sportradar.ScoreBoardEvent.Type.*;
+import static org.sportradar.ScoreBoardPublisher.NON_POSITIVE_REQUEST;
+
+class ScoreBoardPublisherTest {
+
+    private static final MatchSummary NO_GOALS = new MatchSummary("Team 1", 0, "Team 2", 0);
+    private static final MatchSummary ONE_GOAL = new MatchSummary("Team 1", 1, "Team 2", 0);
+    private static final MatchSummary TWO_GOALS = new MatchSummary("Team 1", 2, "Team 2", 0);
+
+    @Test
+    void events_are_only_delivered_when_requested() {
+        var publisher = new ScoreBoardPublisher(Runnable::run);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.publish(new ScoreBoardEvent(1, MATCH_STARTED, 1, NO_GOALS));
+        publisher.publish(new ScoreBoardEvent(2, MATCH_STARTED, 2, NO_GOALS));
+        assertThat(subscriber.events).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.events).containsExactly(new ScoreBoardEvent(1, MATCH_STARTED, 1, NO_GOALS));
+
+        subscriber.subscription.request(5);
+        assertThat(subscriber.events).hasSize(2);
+
+        publisher.publish(new ScoreBoardEvent(3, SCORE_CHANGED, 2, ONE_GOAL));
+        assertThat(subscriber.events).last().isEqualTo(new ScoreBoardEvent(3, SCORE_CHANGED, 2, ONE_GOAL));
+    }
+
+    @Test
+    void pending_events_are_coalesced_per_match_for_slow_subscribers() {
+        var publisher = new ScoreBoardPublisher(Runnable::run);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.publish(new ScoreBoardEvent(1, MATCH_STARTED, 1, NO_GOALS));
+        publisher.publish(new ScoreBoardEvent(2, MATCH_STARTED, 2, NO_GOALS));
+        publisher.publish(new ScoreBoardEvent(3, SCORE_CHANGED, 1, ONE_GOAL));
+        publisher.publish(new ScoreBoardEvent(4, MATCH_FINISHED, 2, NO_GOALS));
+        publisher.publish(new ScoreBoardEvent(5, MATCH_STARTED, 3, NO_GOALS));
+        publisher.publish(new ScoreBoardEvent(6, RANK_MOVED, 3, ONE_GOAL));
+        publisher.publish(new ScoreBoardEvent(7, SCORE_CHANGED, 3, TWO_GOALS));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreBoardEvent(3, MATCH_STARTED, 1, ONE_GOAL),
+                new ScoreBoardEvent(7, MATCH_STARTED, 3, TWO_GOALS));
+    }
+
+    @Test
+    void a_rank_move_is_kept_when_coalesced_with_a_later_score_change() {
+        var coalesced = ScoreBoardEvent.coalesce(
+                new ScoreBoardEvent(1, RANK_MOVED, 1, ONE_GOAL),
+                new ScoreBoardEvent(2, SCORE_CHANGED, 1, TWO_GOALS));
+
+        assertThat(coalesced).isEqualTo(new ScoreBoardEvent(2, RANK_MOVED, 1, TWO_GOALS));
+    }
+
+    @Test
+    void a_correction_is_kept_when_coalesced_with_later_goals() {
+        var coalesced = ScoreBoardEvent.coalesce(
+                new ScoreBoardEvent(1, SCORE_CORRECTED, 1, ONE_GOAL),
+                new ScoreBoardEvent(2, RANK_MOVED, 1, TWO_GOALS));
+
+        assertThat(coalesced).isEqualTo(new ScoreBoardEvent(2, SCORE_CORRECTED, 1, TWO_GOALS));
+    }
+
+    @Test
+    void a_cancelled_subscriber_gets_no_more_events() {
+        var publisher = new ScoreBoardPublisher(Runnable::run);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+
+        subscriber.subscription.cancel();
+        publisher.publish(new ScoreBoardEvent(1, MATCH_STARTED, 1, NO_GOALS));
+
+        assertThat(subscriber.events).isEmpty();
+        assertThat(publisher.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    void a_non_positive_request_is_an_error() {
+        var publisher = new ScoreBoardPublisher(Runnable::run);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(NON_POSITIVE_REQUEST);
+        assertThat(publisher.hasSubscribers()).isFalse();
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<ScoreBoardEvent> {
+
+        final List<ScoreBoardEvent> events = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ScoreBoardEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -2,12 +2,29 @@ package org.sportradar;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
 import static org.sportradar.Match.SCORE_UPDATE_FOR_BOTH_TEAMS;
+import static org.sportradar.ScoreBoard.CHANGE_LOG_SIZE;
+import static org.sportradar.ScoreBoard.INVALID_TAG;
 import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.MISSING_CORRECTION_REASON;
+import static org.sportradar.ScoreBoard.MOMENTUM_NOT_TRACKED;
+import static org.sportradar.ScoreBoard.MOMENTUM_WINDOW;
+import static org.sportradar.ScoreBoard.NEGATIVE_SUMMARY_SIZE;
 import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoard.PARALLEL_THRESHOLD;
+import static org.sportradar.ScoreBoard.REORDER_WINDOW;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+import static org.sportradar.ScoreBoardEvent.Type.*;
 import static org.sportradar.Team.*;
 
 class ScoreBoardTest {
@@ -323,6 +340,644 @@ class ScoreBoardTest {
         assertThat(slovakiaTeamScore).isEqualTo(slovakiaEndScore);
     }
 
+    @Test
+    void teams_of_a_finished_match_are_no_longer_in_an_active_match() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)).isEqualTo(1);
+        assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_2_NAME)).isEqualTo(0);
+
+        scoreBoard.finishMatch(matchId);
+
+        assertThatThrownBy(() -> scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+    }
+
+    @Test
+    void a_rejected_new_match_does_not_use_up_a_match_id() {
+        var scoreBoard = new ScoreBoard();
+        var firstMatchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_3_NAME, "")
+        ).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_1_NAME, TEAM_3_NAME)
+        ).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME)).isEqualTo(firstMatchId + 1);
+    }
+
+    @Test
+    void a_rejected_new_match_does_not_register_its_teams() {
+        var scoreBoard = new ScoreBoard();
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(scoreBoard.tryNewMatch(TEAM_3_NAME, TEAM_1_NAME))
+                .isEqualTo(ScoreBoardResult.ONE_MATCH_PER_TEAM.asNewMatchCode());
+        assertThat(scoreBoard.tryNewMatch(TEAM_3_NAME, TEAM_4_NAME, Set.of("")))
+                .isEqualTo(ScoreBoardResult.INVALID_TAG.asNewMatchCode());
+
+        assertThat(scoreBoard.getTeams().idOf(TEAM_3_NAME)).isEqualTo(TeamRegistry.UNKNOWN_TEAM);
+        assertThat(scoreBoard.getTeams().size()).isEqualTo(2);
+    }
+
+    @Test
+    void top_of_the_summary_follows_the_summary_order() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+
+        simulateEndResult(scoreBoard, match1Id, 2, 0);
+        simulateEndResult(scoreBoard, match2Id, 1, 1);
+
+        var top2 = scoreBoard.getTop(2);
+
+        assertThat(top2).containsExactly(
+                new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 1),
+                new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0));
+        assertThat(scoreBoard.getTop(10)).isEqualTo(scoreBoard.getSummary());
+        assertThat(scoreBoard.getTop(0)).isEmpty();
+        assertThatThrownBy(() -> scoreBoard.getTop(-1)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(NEGATIVE_SUMMARY_SIZE);
+    }
+
+    @Test
+    void a_rejected_update_keeps_the_match_in_the_summary() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 2, 0)
+        ).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void the_summary_is_only_rebuilt_after_a_mutation() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var summary = scoreBoard.getSummary();
+        assertThat(scoreBoard.getSummary()).isSameAs(summary);
+
+        assertThatThrownBy(() -> scoreBoard.updateMatch(matchId, 0, 0)
+        ).isInstanceOf(IllegalArgumentException.class);
+        assertThat(scoreBoard.getSummary()).isSameAs(summary);
+
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        assertThat(scoreBoard.getSummary())
+                .isNotSameAs(summary)
+                .containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+        assertThat(summary).containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void a_batch_of_score_events_is_applied_in_order_and_reports_every_rejection() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        var finishedMatchId = scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+        scoreBoard.finishMatch(finishedMatchId);
+
+        var results = scoreBoard.applyBatch(List.of(
+                new ScoreEvent(match1Id, 1, 0),
+                new ScoreEvent(match1Id, 2, 0),
+                new ScoreEvent(match1Id, 2, 0),
+                new ScoreEvent(match2Id, 0, 2),
+                new ScoreEvent(finishedMatchId, 1, 0),
+                new ScoreEvent(match2Id, 0, 1)));
+
+        assertThat(results)
+                .extracting(ScoreEventResult::rejectionReason)
+                .containsExactly(
+                        null,
+                        null,
+                        NO_CHANGES_IN_SCORE_UPDATE,
+                        MAX_ONE_GOAL_INCREASE,
+                        MATCH_DOES_NOT_EXIST,
+                        null);
+        assertThat(scoreBoard.getSummary()).containsExactly(
+                new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0),
+                new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 1));
+    }
+
+    @Test
+    void matches_can_be_started_and_queried_with_registered_team_ids() {
+        var scoreBoard = new ScoreBoard();
+        var team1Id = scoreBoard.registerTeam(TEAM_1_NAME);
+        var team2Id = scoreBoard.registerTeam(TEAM_2_NAME);
+        var team3Id = scoreBoard.registerTeam(TEAM_3_NAME);
+
+        var matchId = scoreBoard.newMatch(team1Id, team2Id);
+        scoreBoard.updateMatch(matchId, 0, 1);
+
+        assertThat(scoreBoard.registerTeam(TEAM_2_NAME)).isEqualTo(team2Id);
+        assertThat(scoreBoard.getCurrentGoals(team2Id)).isEqualTo(1);
+        assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_2_NAME)).isEqualTo(1);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 1));
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(team3Id, team1Id)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ONE_MATCH_PER_TEAM);
+        assertThatThrownBy(() -> scoreBoard.newMatch(team3Id, 42)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TeamRegistry.TEAM_DOES_NOT_EXIST);
+        assertThatThrownBy(() -> scoreBoard.getCurrentGoals(team3Id)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+    }
+
+    @Test
+    void subscribers_get_an_event_for_every_change_to_the_board() {
+        var scoreBoard = new ScoreBoard(Runnable::run);
+        var subscriber = new ScoreBoardPublisherTest.RecordingSubscriber();
+        scoreBoard.changes().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+        scoreBoard.updateMatch(match2Id, 1, 0);
+        scoreBoard.applyBatch(List.of(
+                new ScoreEvent(match2Id, 2, 0),
+                new ScoreEvent(match1Id, 2, 0),
+                new ScoreEvent(match1Id, 4, 0)));
+        scoreBoard.finishMatch(match1Id);
+
+        // Match 2 is started later, so it's above match 1 when they have the same total score
+        assertThat(subscriber.events).containsExactly(
+                new ScoreBoardEvent(1, MATCH_STARTED, match1Id, new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0)),
+                new ScoreBoardEvent(2, MATCH_STARTED, match2Id, new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0)),
+                new ScoreBoardEvent(3, RANK_MOVED, match1Id, new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0)),
+                new ScoreBoardEvent(4, RANK_MOVED, match2Id, new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0)),
+                new ScoreBoardEvent(5, SCORE_CHANGED, match2Id, new MatchSummary(TEAM_3_NAME, 2, TEAM_4_NAME, 0)),
+                new ScoreBoardEvent(5, SCORE_CHANGED, match1Id, new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0)),
+                new ScoreBoardEvent(6, MATCH_FINISHED, match1Id, new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0)));
+    }
+
+    @Test
+    void a_client_only_gets_the_changes_since_its_version() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        var clientVersion = scoreBoard.getVersion();
+
+        scoreBoard.updateMatch(match1Id, 1, 0);
+        scoreBoard.updateMatch(match1Id, 1, 1);
+        var match3Id = scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+        scoreBoard.finishMatch(match2Id);
+        var match4Id = scoreBoard.newMatch(TEAM_3_NAME, "Team 7");
+        scoreBoard.finishMatch(match4Id);
+
+        var delta = scoreBoard.getSummarySince(clientVersion);
+
+        assertThat(delta.version()).isEqualTo(scoreBoard.getVersion()).isEqualTo(clientVersion + 6);
+        assertThat(delta.fullSnapshot()).isFalse();
+        assertThat(delta.changes())
+                .extracting(ScoreBoardEvent::type, ScoreBoardEvent::matchId, ScoreBoardEvent::match)
+                .containsExactly(
+                        tuple(RANK_MOVED, match1Id, new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 1)),
+                        tuple(MATCH_STARTED, match3Id, new MatchSummary(TEAM_5_NAME, 0, TEAM_6_NAME, 0)),
+                        tuple(MATCH_FINISHED, match2Id, new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0)));
+        assertThat(scoreBoard.getSummarySince(delta.version()).changes()).isEmpty();
+    }
+
+    @Test
+    void a_client_that_is_too_far_behind_gets_the_full_summary() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        simulateEndResult(scoreBoard, matchId, CHANGE_LOG_SIZE, 0);
+
+        var delta = scoreBoard.getSummarySince(0);
+
+        assertThat(delta.fullSnapshot()).isTrue();
+        assertThat(delta.summary()).containsExactly(
+                new SummaryRow(matchId, new MatchSummary(TEAM_1_NAME, CHANGE_LOG_SIZE, TEAM_2_NAME, 0)));
+        assertThat(delta.changes()).isEmpty();
+        assertThat(scoreBoard.getSummarySince(scoreBoard.getVersion() + 1).fullSnapshot()).isTrue();
+        assertThat(scoreBoard.getSummarySince(scoreBoard.getVersion() - 1).changes())
+                .extracting(ScoreBoardEvent::version)
+                .containsExactly(scoreBoard.getVersion());
+    }
+
+    @Test
+    void the_encoded_summary_is_the_summary_in_json() {
+        var scoreBoard = new ScoreBoard();
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var matchId = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        var encoded = scoreBoard.getEncodedSummary(SummaryFormat.JSON);
+
+        assertThat(encoded.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(encoded).toString()).isEqualTo(
+                "[{\"homeTeamName\":\"Team 3\",\"homeTeamScore\":1,\"awayTeamName\":\"Team 4\",\"awayTeamScore\":0},"
+                        + "{\"homeTeamName\":\"Team 1\",\"homeTeamScore\":0,\"awayTeamName\":\"Team 2\",\"awayTeamScore\":0}]");
+        assertThat(scoreBoard.getEncodedSummary(SummaryFormat.BINARY))
+                .isEqualTo(SummaryEncoding.encodeSummary(SummaryFormat.BINARY, scoreBoard.getSummary()));
+    }
+
+    @Test
+    void only_the_rows_of_changed_matches_are_encoded_again() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        var encoded = scoreBoard.getEncodedSummary(SummaryFormat.JSON);
+        var match1Row = scoreBoard.getMatch(match1Id).getEncodedRow(SummaryFormat.JSON);
+        var match2Row = scoreBoard.getMatch(match2Id).getEncodedRow(SummaryFormat.JSON);
+
+        scoreBoard.updateMatch(match2Id, 1, 0);
+        var updated = scoreBoard.getEncodedSummary(SummaryFormat.JSON);
+
+        assertThat(scoreBoard.getMatch(match1Id).getEncodedRow(SummaryFormat.JSON)).isSameAs(match1Row);
+        assertThat(scoreBoard.getMatch(match2Id).getEncodedRow(SummaryFormat.JSON)).isNotSameAs(match2Row);
+        // Buffers handed out before keep the summary they were made for
+        assertThat(updated).isNotEqualTo(encoded);
+        assertThat(encoded).isEqualTo(SummaryEncoding.encodeSummary(SummaryFormat.JSON,
+                List.of(new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0),
+                        new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0))));
+    }
+
+    @Test
+    void try_operations_return_the_broken_rule_instead_of_throwing() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.tryNewMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(ScoreBoardResult.ofNewMatch(matchId)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(ScoreBoardResult.ofNewMatch(scoreBoard.tryNewMatch(TEAM_2_NAME, TEAM_3_NAME)))
+                .isEqualTo(ScoreBoardResult.ONE_MATCH_PER_TEAM);
+        assertThat(ScoreBoardResult.ofNewMatch(scoreBoard.tryNewMatch(null, TEAM_3_NAME)))
+                .isEqualTo(ScoreBoardResult.INVALID_TEAM_NAME);
+        assertThat(ScoreBoardResult.ofNewMatch(scoreBoard.tryNewMatch(42, 0)))
+                .isEqualTo(ScoreBoardResult.TEAM_DOES_NOT_EXIST);
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 0)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 0)).isEqualTo(ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 2, 1)).isEqualTo(ScoreBoardResult.SCORE_UPDATE_FOR_BOTH_TEAMS);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 0, 0)).isEqualTo(ScoreBoardResult.UPDATED_SCORE_LOWER);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 2)).isEqualTo(ScoreBoardResult.MAX_ONE_GOAL_INCREASE);
+        assertThat(scoreBoard.tryUpdateMatch(matchId + 1, 1, 0)).isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+
+        assertThat(scoreBoard.tryFinishMatch(matchId)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(scoreBoard.tryFinishMatch(matchId)).isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+        assertThat(scoreBoard.getSummary()).isEmpty();
+    }
+
+    @Test
+    void a_negative_code_that_is_no_rule_is_rejected() {
+        var unknownCode = -ScoreBoardResult.values().length;
+
+        assertThat(ScoreBoardResult.ofNewMatch(ScoreBoardResult.TOO_LARGE_TO_JOURNAL.asNewMatchCode()))
+                .isEqualTo(ScoreBoardResult.TOO_LARGE_TO_JOURNAL);
+        assertThatThrownBy(() ->
+                ScoreBoardResult.ofNewMatch(unknownCode)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ScoreBoardResult.UNKNOWN_NEW_MATCH_CODE + unknownCode);
+        assertThatThrownBy(() ->
+                ScoreBoardResult.ofNewMatch(Integer.MIN_VALUE)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ScoreBoardResult.UNKNOWN_NEW_MATCH_CODE);
+    }
+
+    @Test
+    void rejections_have_the_same_message_as_the_throwing_operations() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 0, 0).message()).isEqualTo(NO_CHANGES_IN_SCORE_UPDATE);
+        assertThat(ScoreBoardResult.ofNewMatch(scoreBoard.tryNewMatch(TEAM_1_NAME, TEAM_3_NAME)).message())
+                .isEqualTo(ONE_MATCH_PER_TEAM);
+        assertThat(ScoreBoardResult.OK.message()).isNull();
+    }
+
+    @Test
+    void sequenced_updates_are_applied_once_and_in_order() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 1, 0)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 1, 0)).isEqualTo(ScoreBoardResult.DUPLICATE_UPDATE);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 3, 2, 1)).isEqualTo(ScoreBoardResult.UPDATE_BUFFERED);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 3, 2, 1)).isEqualTo(ScoreBoardResult.DUPLICATE_UPDATE);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 2, 2, 0)).isEqualTo(ScoreBoardResult.OK);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 1));
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 3, 2, 1)).isEqualTo(ScoreBoardResult.DUPLICATE_UPDATE);
+    }
+
+    @Test
+    void a_sequenced_update_that_breaks_a_rule_does_not_hold_back_the_next_ones() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 2, 1, 0)).isEqualTo(ScoreBoardResult.UPDATE_BUFFERED);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 5, 0)).isEqualTo(ScoreBoardResult.MAX_ONE_GOAL_INCREASE);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void sequenced_updates_too_far_ahead_are_rejected() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThat(scoreBoard.tryUpdateMatch(matchId, REORDER_WINDOW, 1, 0)).isEqualTo(ScoreBoardResult.UPDATE_BUFFERED);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, REORDER_WINDOW + 1, 1, 0))
+                .isEqualTo(ScoreBoardResult.SEQUENCE_OUT_OF_WINDOW);
+        assertThat(scoreBoard.tryUpdateMatch(matchId + 1, 1, 1, 0)).isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+    }
+
+    @Test
+    void a_match_that_lost_a_sequenced_update_is_resynced_past_it() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 1, 1, 0)).isEqualTo(ScoreBoardResult.OK);
+        // Sequence 2 with 2-0 is lost, and everything after it is held back until the window is full
+        for (int sequence = 3; sequence <= REORDER_WINDOW + 1; sequence++) {
+            assertThat(scoreBoard.tryUpdateMatch(matchId, sequence, sequence - 1, 0))
+                    .isEqualTo(ScoreBoardResult.UPDATE_BUFFERED);
+        }
+        assertThat(scoreBoard.tryUpdateMatch(matchId, REORDER_WINDOW + 2, REORDER_WINDOW + 1, 0))
+                .isEqualTo(ScoreBoardResult.SEQUENCE_OUT_OF_WINDOW);
+
+        scoreBoard.resyncMatch(matchId, 2, 2, 0);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, REORDER_WINDOW, TEAM_2_NAME, 0));
+        assertThat(scoreBoard.tryUpdateMatch(matchId, REORDER_WINDOW + 2, REORDER_WINDOW + 1, 0))
+                .isEqualTo(ScoreBoardResult.OK);
+        assertThat(scoreBoard.tryResyncMatch(matchId, 2, 2, 0)).isEqualTo(ScoreBoardResult.DUPLICATE_UPDATE);
+        assertThat(scoreBoard.tryResyncMatch(matchId + 1, 1, 0, 0)).isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+    }
+
+    @Test
+    void a_resync_drops_the_held_back_updates_its_scores_include() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.tryUpdateMatch(matchId, 3, 1, 1);
+        scoreBoard.tryUpdateMatch(matchId, 5, 2, 2);
+
+        scoreBoard.resyncMatch(matchId, 3, 1, 1);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 1));
+        assertThat(scoreBoard.tryUpdateMatch(matchId, 4, 2, 1)).isEqualTo(ScoreBoardResult.OK);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 2));
+    }
+
+    @Test
+    void a_score_correction_moves_the_match_and_keeps_its_id() {
+        var scoreBoard = new ScoreBoard(Runnable::run);
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        simulateEndResult(scoreBoard, match1Id, 2, 1);
+        scoreBoard.updateMatch(match2Id, 1, 0);
+        var subscriber = new ScoreBoardPublisherTest.RecordingSubscriber();
+        scoreBoard.changes().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        scoreBoard.correctScore(match1Id, 1, 0, "Offside");
+
+        // Match 2 is started later, so it's above match 1 with the same total score
+        assertThat(scoreBoard.getSummary()).containsExactly(
+                new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0),
+                new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+        assertThat(subscriber.events).containsExactly(new ScoreBoardEvent(scoreBoard.getVersion(), SCORE_CORRECTED,
+                match1Id, new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0)));
+
+        scoreBoard.updateMatch(match1Id, 2, 0);
+        assertThat(scoreBoard.getSummary()).first().isEqualTo(new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void a_score_correction_needs_a_change_a_reason_and_no_negative_scores() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        assertThat(scoreBoard.tryCorrectScore(matchId, 1, 0, "VAR"))
+                .isEqualTo(ScoreBoardResult.NO_CHANGES_IN_SCORE_UPDATE);
+        assertThat(scoreBoard.tryCorrectScore(matchId, -1, 0, "VAR")).isEqualTo(ScoreBoardResult.NEGATIVE_SCORE);
+        assertThat(scoreBoard.tryCorrectScore(matchId + 1, 0, 0, "VAR"))
+                .isEqualTo(ScoreBoardResult.MATCH_DOES_NOT_EXIST);
+        assertThatThrownBy(() -> scoreBoard.correctScore(matchId, 0, 0, " ")
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(MISSING_CORRECTION_REASON);
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void a_tagged_summary_only_has_the_matches_with_the_tag_in_the_summary_order() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME, Set.of("Euro", "Group A"));
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME, Set.of("Euro"));
+        scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro"))).containsExactly(
+                new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0),
+                new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+        assertThat(scoreBoard.getTop(SummaryFilter.tagged("Euro"), 1))
+                .containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+
+        scoreBoard.updateMatch(match2Id, 1, 0);
+        scoreBoard.finishMatch(match1Id);
+
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro")))
+                .containsExactly(new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0));
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Group A"))).isEmpty();
+    }
+
+    @Test
+    void a_team_summary_has_the_matches_of_any_of_the_teams() {
+        var scoreBoard = new ScoreBoard();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+
+        assertThat(scoreBoard.getSummary(SummaryFilter.anyOfTeams(TEAM_3_NAME, TEAM_2_NAME, TEAM_1_NAME, "Team 7")))
+                .containsExactly(
+                        new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0),
+                        new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+    }
+
+    @Test
+    void filtered_summaries_are_only_rebuilt_after_a_mutation() {
+        var scoreBoard = new ScoreBoard();
+        var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME, Set.of("Euro"));
+
+        var summary = scoreBoard.getSummary(SummaryFilter.tagged("Euro"));
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro"))).isSameAs(summary);
+
+        scoreBoard.updateMatch(matchId, 1, 0);
+
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro"))).isNotSameAs(summary);
+    }
+
+    @Test
+    void only_the_most_recently_used_filtered_summaries_are_cached() {
+        var scoreBoard = new ScoreBoard();
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME, Set.of("Euro"));
+
+        var summary = scoreBoard.getSummary(SummaryFilter.tagged("Euro"));
+        for (int i = 0; i < ScoreBoard.FILTERED_SUMMARY_CACHE_SIZE - 1; i++) {
+            scoreBoard.getSummary(SummaryFilter.tagged("Cup " + i));
+        }
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro"))).isSameAs(summary);
+
+        for (int i = 0; i < ScoreBoard.FILTERED_SUMMARY_CACHE_SIZE; i++) {
+            scoreBoard.getSummary(SummaryFilter.tagged("League " + i));
+        }
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro"))).isNotSameAs(summary).isEqualTo(summary);
+    }
+
+    @Test
+    void tags_must_not_be_null_or_empty() {
+        var scoreBoard = new ScoreBoard();
+
+        assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME, Set.of(""))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TAG);
+        assertThat(ScoreBoardResult.ofNewMatch(scoreBoard.tryNewMatch(TEAM_1_NAME, TEAM_2_NAME, null)))
+                .isEqualTo(ScoreBoardResult.INVALID_TAG);
+        assertThat(scoreBoard.getSummary()).isEmpty();
+    }
+
+    @Test
+    void a_bulk_load_starts_every_match_in_order() {
+        var scoreBoard = new ScoreBoard();
+        var existingMatchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        var matchIds = scoreBoard.bulkLoad(List.of(
+                new MatchFixture(TEAM_3_NAME, TEAM_4_NAME, Set.of("Euro")),
+                new MatchFixture(TEAM_5_NAME, TEAM_6_NAME)));
+
+        assertThat(matchIds).containsExactly(existingMatchId + 1, existingMatchId + 2);
+        assertThat(scoreBoard.getSummary()).containsExactly(
+                new MatchSummary(TEAM_5_NAME, 0, TEAM_6_NAME, 0),
+                new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0),
+                new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0));
+        assertThat(scoreBoard.getSummary(SummaryFilter.tagged("Euro")))
+                .containsExactly(new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+    }
+
+    @Test
+    void a_bulk_load_with_a_broken_rule_starts_no_match_at_all() {
+        var scoreBoard = new ScoreBoard();
+        scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+        assertThatThrownBy(() -> scoreBoard.bulkLoad(List.of(
+                new MatchFixture(TEAM_3_NAME, TEAM_4_NAME),
+                new MatchFixture(TEAM_5_NAME, TEAM_3_NAME)))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ONE_MATCH_PER_TEAM);
+        assertThatThrownBy(() -> scoreBoard.bulkLoad(List.of(
+                new MatchFixture(TEAM_3_NAME, TEAM_4_NAME),
+                new MatchFixture(TEAM_5_NAME, TEAM_1_NAME)))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ONE_MATCH_PER_TEAM);
+        assertThatThrownBy(() -> scoreBoard.bulkLoad(List.of(new MatchFixture(TEAM_3_NAME, "")))
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+
+        assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 0));
+    }
+
+    @Test
+    void a_big_bulk_load_and_its_summary_are_the_same_as_starting_every_match() {
+        var scoreBoard = new ScoreBoard();
+        var expected = new ScoreBoard();
+        var fixtures = new ArrayList<MatchFixture>();
+        for (int i = 0; i < PARALLEL_THRESHOLD + 10; i++) {
+            fixtures.add(new MatchFixture("Home " + i, "Away " + i));
+            expected.newMatch("Home " + i, "Away " + i);
+        }
+
+        var matchIds = scoreBoard.bulkLoad(fixtures);
+        for (int i = 0; i < matchIds.length; i += 3) {
+            scoreBoard.updateMatch(matchIds[i], 1, 0);
+            expected.updateMatch(matchIds[i], 1, 0);
+        }
+
+        assertThat(scoreBoard.getSummary()).isEqualTo(expected.getSummary()).hasSize(PARALLEL_THRESHOLD + 10);
+        assertThat(scoreBoard.getVersion()).isEqualTo(expected.getVersion());
+    }
+
+    @Test
+    void hot_matches_are_the_ones_with_the_most_goals_in_the_momentum_window() {
+        var clock = new MatchHistoryTest.TestClock();
+        var scoreBoard = new ScoreBoard(clock, Runnable::run);
+        scoreBoard.trackMomentum();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+
+        simulateEndResult(scoreBoard, match1Id, 2, 0);
+        clock.advance(Duration.ofMinutes(10));
+        scoreBoard.updateMatch(match2Id, 1, 0);
+
+        assertThat(scoreBoard.getHotMatches(10)).containsExactly(
+                new MatchMomentum(new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0), 2),
+                new MatchMomentum(new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0), 1));
+
+        // The goals of match 1 leave the window, the one of match 2 is still in it
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(scoreBoard.getHotMatches(10))
+                .containsExactly(new MatchMomentum(new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0), 1));
+        assertThat(scoreBoard.getHotMatches(10).getFirst().goalsPerMinute()).isEqualTo(1 / 15.0);
+        assertThat(scoreBoard.getSummary()).first().isEqualTo(new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0));
+
+        clock.advance(MOMENTUM_WINDOW);
+
+        assertThat(scoreBoard.getHotMatches(10)).isEmpty();
+    }
+
+    @Test
+    void corrected_and_finished_matches_leave_the_hot_matches() {
+        var clock = new MatchHistoryTest.TestClock();
+        var scoreBoard = new ScoreBoard(clock, Runnable::run);
+        scoreBoard.trackMomentum();
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.applyBatch(List.of(new ScoreEvent(match1Id, 1, 0), new ScoreEvent(match2Id, 0, 1)));
+
+        scoreBoard.correctScore(match1Id, 0, 0, "Offside");
+
+        assertThat(scoreBoard.getHotMatches(10))
+                .containsExactly(new MatchMomentum(new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 1), 1));
+
+        scoreBoard.finishMatch(match2Id);
+
+        assertThat(scoreBoard.getHotMatches(10)).isEmpty();
+    }
+
+    @Test
+    void goals_only_count_for_the_hot_matches_once_momentum_is_tracked() {
+        var clock = new MatchHistoryTest.TestClock();
+        var scoreBoard = new ScoreBoard(clock, Runnable::run);
+        var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+        var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+        scoreBoard.updateMatch(match1Id, 1, 0);
+
+        assertThatThrownBy(() -> scoreBoard.getHotMatches(10)
+        ).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(MOMENTUM_NOT_TRACKED);
+
+        scoreBoard.trackMomentum();
+        scoreBoard.updateMatch(match2Id, 1, 0);
+
+        assertThat(scoreBoard.getHotMatches(10))
+                .containsExactly(new MatchMomentum(new MatchSummary(TEAM_3_NAME, 1, TEAM_4_NAME, 0), 1));
+    }
+
     private void simulateEndResult(ScoreBoard scoreBoard, int matchId, int homeEndScore, int awayEndScore) {
         for (int nextHomeScore = 1; nextHomeScore <= homeEndScore; nextHomeScore++) {
             scoreBoard.updateMatch(matchId, nextHomeScore, 0);
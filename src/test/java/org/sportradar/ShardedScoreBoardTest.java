@@ -0,0 +1,185 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.Match.NO_CHANGES_IN_SCORE_UPDATE;
+import static org.sportradar.ScoreBoard.MATCH_DOES_NOT_EXIST;
+import static org.sportradar.ScoreBoard.ONE_MATCH_PER_TEAM;
+import static org.sportradar.ScoreBoard.TEAM_IS_NOT_IN_AN_ACTIVE_MATCH;
+import static org.sportradar.ShardedScoreBoard.INVALID_COMPETITION;
+import static org.sportradar.ShardedScoreBoard.NON_POSITIVE_SHARD_COUNT;
+import static org.sportradar.Team.INVALID_TEAM_NAME;
+
+class ShardedScoreBoardTest {
+
+    public static final String TEAM_1_NAME = "Team 1";
+    public static final String TEAM_2_NAME = "Team 2";
+    public static final String TEAM_3_NAME = "Team 3";
+    public static final String TEAM_4_NAME = "Team 4";
+    public static final String TEAM_5_NAME = "Team 5";
+    public static final String TEAM_6_NAME = "Team 6";
+
+    @Test
+    void follows_the_same_rules_as_the_single_threaded_score_board() {
+        try (var scoreBoard = new ShardedScoreBoard(4)) {
+            var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+            var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+            scoreBoard.updateMatch(match1Id, 1, 0);
+
+            assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_2_NAME, TEAM_5_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ONE_MATCH_PER_TEAM);
+            assertThatThrownBy(() -> scoreBoard.newMatch(TEAM_5_NAME, "")
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(INVALID_TEAM_NAME);
+            assertThatThrownBy(() -> scoreBoard.updateMatch(match1Id, 1, 0)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(NO_CHANGES_IN_SCORE_UPDATE);
+
+            assertThat(scoreBoard.getCurrentGoalsForTeam(TEAM_1_NAME)).isEqualTo(1);
+            assertThat(scoreBoard.getSummary()).containsExactly(
+                    new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0),
+                    new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 0));
+
+            scoreBoard.finishMatch(match2Id);
+
+            assertThatThrownBy(() -> scoreBoard.finishMatch(match2Id)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(MATCH_DOES_NOT_EXIST);
+            assertThatThrownBy(() -> scoreBoard.getCurrentGoalsForTeam(TEAM_3_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(TEAM_IS_NOT_IN_AN_ACTIVE_MATCH);
+            assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0));
+        }
+    }
+
+    @Test
+    void needs_at_least_one_shard() {
+        assertThatThrownBy(() -> new ShardedScoreBoard(0)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(NON_POSITIVE_SHARD_COUNT);
+    }
+
+    @Test
+    void summary_is_ranked_across_all_shards() {
+        try (var scoreBoard = new ShardedScoreBoard(3)) {
+            var match1Id = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+            var match2Id = scoreBoard.newMatch(TEAM_3_NAME, TEAM_4_NAME);
+            scoreBoard.newMatch(TEAM_5_NAME, TEAM_6_NAME);
+            scoreBoard.updateMatch(match1Id, 1, 0);
+            scoreBoard.updateMatch(match2Id, 0, 1);
+
+            // Identical totals in different shards are still ordered by the latest started match first
+            assertThat(scoreBoard.getSummary()).containsExactly(
+                    new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 1),
+                    new MatchSummary(TEAM_1_NAME, 1, TEAM_2_NAME, 0),
+                    new MatchSummary(TEAM_5_NAME, 0, TEAM_6_NAME, 0));
+
+            scoreBoard.updateMatch(match1Id, 2, 0);
+
+            assertThat(scoreBoard.getSummary()).containsExactly(
+                    new MatchSummary(TEAM_1_NAME, 2, TEAM_2_NAME, 0),
+                    new MatchSummary(TEAM_3_NAME, 0, TEAM_4_NAME, 1),
+                    new MatchSummary(TEAM_5_NAME, 0, TEAM_6_NAME, 0));
+        }
+    }
+
+    @Test
+    void readers_share_the_same_summary_until_a_shard_changes() {
+        try (var scoreBoard = new ShardedScoreBoard(2)) {
+            var matchId = scoreBoard.newMatch(TEAM_1_NAME, TEAM_2_NAME);
+
+            var summary = scoreBoard.getSummary();
+            assertThat(scoreBoard.getSummary()).isSameAs(summary);
+
+            scoreBoard.updateMatch(matchId, 0, 1);
+
+            assertThat(scoreBoard.getSummary())
+                    .isNotSameAs(summary)
+                    .containsExactly(new MatchSummary(TEAM_1_NAME, 0, TEAM_2_NAME, 1));
+        }
+    }
+
+    @Test
+    void teams_can_only_play_one_match_across_competitions() {
+        try (var scoreBoard = new ShardedScoreBoard(8)) {
+            var leagueMatchId = scoreBoard.newMatch("League", TEAM_1_NAME, TEAM_2_NAME);
+
+            assertThatThrownBy(() -> scoreBoard.newMatch("Cup", TEAM_3_NAME, TEAM_1_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(ONE_MATCH_PER_TEAM);
+
+            // The rejected match must not keep its other team occupied
+            scoreBoard.finishMatch(leagueMatchId);
+            scoreBoard.newMatch("Cup", TEAM_3_NAME, TEAM_1_NAME);
+
+            assertThat(scoreBoard.getSummary()).containsExactly(new MatchSummary(TEAM_3_NAME, 0, TEAM_1_NAME, 0));
+        }
+    }
+
+    @Test
+    void a_match_of_a_competition_needs_the_competition() {
+        try (var scoreBoard = new ShardedScoreBoard(4)) {
+            assertThatThrownBy(() -> scoreBoard.newMatch(null, TEAM_1_NAME, TEAM_2_NAME)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(INVALID_COMPETITION);
+            assertThatThrownBy(() -> scoreBoard.newMatch("League", TEAM_1_NAME, null)
+            ).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(INVALID_TEAM_NAME);
+
+            assertThat(scoreBoard.getSummary()).isEmpty();
+        }
+    }
+
+    @Test
+    void matches_of_a_competition_are_kept_in_the_same_shard() {
+        int shards = 4;
+        try (var scoreBoard = new ShardedScoreBoard(shards)) {
+            var match1Id = scoreBoard.newMatch("League", TEAM_1_NAME, TEAM_2_NAME);
+            var match2Id = scoreBoard.newMatch("League", TEAM_3_NAME, TEAM_4_NAME);
+            var match3Id = scoreBoard.newMatch("League", TEAM_5_NAME, TEAM_6_NAME);
+
+            assertThat(match2Id % shards).isEqualTo(match1Id % shards);
+            assertThat(match3Id % shards).isEqualTo(match1Id % shards);
+            assertThat(match1Id).isLessThan(match2Id).isLessThan(match3Id);
+        }
+    }
+
+    @Test
+    void only_one_of_many_concurrent_matches_for_the_same_team_is_started() throws Exception {
+        int threads = 8;
+        var started = new AtomicInteger();
+
+        try (var scoreBoard = new ShardedScoreBoard(4);
+             var executor = Executors.newFixedThreadPool(threads)) {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                var opponent = "Opponent " + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        scoreBoard.newMatch(TEAM_1_NAME, opponent);
+                        started.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        assertThat(e).hasMessageContaining(ONE_MATCH_PER_TEAM);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(started.get()).isEqualTo(1);
+            assertThat(scoreBoard.getSummary()).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryEncodingTest {
+
+    @Test
+    void json_rows_escape_team_names() {
+        var summary = List.of(new MatchSummary("Côte \"d'Ivoire\"", 10, "Back\\slash\n", 0));
+
+        var encoded = SummaryEncoding.encodeSummary(SummaryFormat.JSON, summary);
+
+        assertThat(StandardCharsets.UTF_8.decode(encoded).toString()).isEqualTo(
+                "[{\"homeTeamName\":\"Côte \\\"d'Ivoire\\\"\",\"homeTeamScore\":10,"
+                        + "\"awayTeamName\":\"Back\\\\slash\\n\",\"awayTeamScore\":0}]");
+    }
+
+    @Test
+    void binary_rows_are_length_prefixed() {
+        var summary = List.of(
+                new MatchSummary("Côte d'Ivoire", 3, "Mali", 2),
+                new MatchSummary("Spain", 0, "Brazil", 123));
+
+        var encoded = SummaryEncoding.encodeSummary(SummaryFormat.BINARY, summary);
+
+        assertThat(decodeBinary(encoded)).isEqualTo(summary);
+    }
+
+    @Test
+    void an_empty_summary_is_still_a_valid_document() {
+        assertThat(StandardCharsets.UTF_8.decode(SummaryEncoding.encodeSummary(SummaryFormat.JSON, List.of())).toString())
+                .isEqualTo("[]");
+        assertThat(SummaryEncoding.encodeSummary(SummaryFormat.BINARY, List.of()).getInt()).isZero();
+    }
+
+    private static List<MatchSummary> decodeBinary(ByteBuffer encoded) {
+        var rows = new MatchSummary[encoded.getInt()];
+        for (int i = 0; i < rows.length; i++) {
+            var homeTeamName = decodeName(encoded);
+            var homeTeamScore = encoded.getInt();
+            var awayTeamName = decodeName(encoded);
+            rows[i] = new MatchSummary(homeTeamName, homeTeamScore, awayTeamName, encoded.getInt());
+        }
+        assertThat(encoded.hasRemaining()).isFalse();
+
+        return List.of(rows);
+    }
+
+    private static String decodeName(ByteBuffer encoded) {
+        var name = new byte[encoded.getInt()];
+        encoded.get(name);
+
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
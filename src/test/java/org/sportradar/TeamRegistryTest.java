@@ -0,0 +1,51 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.sportradar.Team.INVALID_TEAM_NAME;
+import static org.sportradar.TeamRegistry.TEAM_DOES_NOT_EXIST;
+import static org.sportradar.TeamRegistry.UNKNOWN_TEAM;
+
+class TeamRegistryTest {
+
+    @Test
+    void a_team_name_gets_the_same_id_every_time_it_is_registered() {
+        var registry = new TeamRegistry();
+
+        var team1Id = registry.register("Team 1");
+        var team2Id = registry.register("Team 2");
+
+        assertThat(team1Id).isEqualTo(0);
+        assertThat(team2Id).isEqualTo(1);
+        assertThat(registry.register(new String("Team 1"))).isEqualTo(team1Id);
+        assertThat(registry.idOf("Team 2")).isEqualTo(team2Id);
+        assertThat(registry.nameOf(team2Id)).isEqualTo("Team 2");
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    void unknown_teams_have_no_id() {
+        var registry = new TeamRegistry();
+        registry.register("Team 1");
+
+        assertThat(registry.idOf("Team 2")).isEqualTo(UNKNOWN_TEAM);
+        assertThat(registry.contains(1)).isFalse();
+        assertThatThrownBy(() -> registry.nameOf(1)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(TEAM_DOES_NOT_EXIST);
+    }
+
+    @Test
+    void a_team_name_can_not_be_null_or_empty() {
+        var registry = new TeamRegistry();
+
+        assertThatThrownBy(() -> registry.register(null)
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+        assertThatThrownBy(() -> registry.register("")
+        ).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(INVALID_TEAM_NAME);
+    }
+}
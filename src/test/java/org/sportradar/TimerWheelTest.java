@@ -0,0 +1,53 @@
+package org.sportradar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void items_are_handed_out_once_when_they_are_due() {
+        var wheel = new TimerWheel<String>(8, 10, 0);
+        var due = new ArrayList<String>();
+        wheel.schedule("first", 25);
+        wheel.schedule("second", 40);
+
+        wheel.advanceTo(29, due::add);
+        assertThat(due).isEmpty();
+
+        wheel.advanceTo(30, due::add);
+        assertThat(due).containsExactly("first");
+
+        wheel.advanceTo(45, due::add);
+        wheel.advanceTo(50, due::add);
+        assertThat(due).containsExactly("first", "second");
+    }
+
+    @Test
+    void every_item_is_due_after_a_whole_turn_of_the_wheel() {
+        var wheel = new TimerWheel<String>(4, 10, 0);
+        var due = new ArrayList<String>();
+        wheel.schedule("first", 10);
+        wheel.schedule("second", 35);
+
+        wheel.advanceTo(1000, due::add);
+
+        assertThat(due).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void items_more_than_a_turn_ahead_wait_for_their_own_tick() {
+        var wheel = new TimerWheel<String>(4, 10, 0);
+        var due = new ArrayList<String>();
+        wheel.schedule("later", 100);
+
+        wheel.advanceTo(60, due::add);
+        assertThat(due).isEmpty();
+
+        wheel.advanceTo(100, due::add);
+        assertThat(due).containsExactly("later");
+    }
+}